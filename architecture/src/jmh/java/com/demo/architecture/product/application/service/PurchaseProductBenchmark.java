@@ -0,0 +1,146 @@
+package com.demo.architecture.product.application.service;
+
+import com.demo.architecture.product.application.command.PurchaseProductCommand;
+import com.demo.architecture.product.application.port.out.ProductStockLeasePort;
+import com.demo.architecture.product.application.port.out.ProductStockPort;
+import com.demo.architecture.product.domain.SalesStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인기 상품 하나(단일 SKU)에 구매가 몰릴 때 PurchaseProductService.purchase 의 처리량을 잰다.
+ * 재고가 끝없는 메모리 포트를 쓰고, 정산은 운영과 같이 100ms 마다 별도 스레드에서 돌린다.
+ * hot 은 처음부터 인기 상품으로 올려 둔 경우, cold 는 한 번도 올리지 않아 매번 포트의 조건부 차감을 타는 경우다.
+ * cold 의 포트는 DB 대신 AtomicLong 이므로 실제 DB 경로보다 훨씬 빠르게 나온다. 실제 cold 경로는 구매마다 UPDATE 한 번이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PurchaseProductBenchmark {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @Param({"hot", "cold"})
+    private String path;
+
+    private PurchaseProductService purchaseProductService;
+    private ScheduledExecutorService reconciler;
+    private final PurchaseProductCommand cmd = PurchaseProductCommand.builder()
+            .productId(PRODUCT_ID)
+            .quantity(1)
+            .build();
+
+    @Setup
+    public void setUp() {
+        UnlimitedStock stock = new UnlimitedStock();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+        int hotThreshold = "hot".equals(path) ? 1 : Integer.MAX_VALUE;
+        HotProductStock hotProductStock = new HotProductStock(stock, stock, transactionTemplate, "benchmark", 1000, hotThreshold);
+        if ("hot".equals(path)) {
+            hotProductStock.promote(PRODUCT_ID);
+        }
+        purchaseProductService = new PurchaseProductService(hotProductStock, stock, transactionTemplate);
+        reconciler = Executors.newSingleThreadScheduledExecutor();
+        reconciler.scheduleWithFixedDelay(hotProductStock::reconcile, 100, 100, TimeUnit.MILLISECONDS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        reconciler.shutdownNow();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void purchase1Thread() {
+        purchaseProductService.purchase(cmd);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void purchase16Threads() {
+        purchaseProductService.purchase(cmd);
+    }
+
+    private static final class UnlimitedStock implements ProductStockPort, ProductStockLeasePort {
+
+        private final AtomicLong sold = new AtomicLong();
+
+        @Override
+        public boolean decreaseQuantity(Long productId, int quantity) {
+            sold.addAndGet(quantity);
+            return true;
+        }
+
+        @Override
+        public void increaseQuantity(Long productId, int quantity) {
+            sold.addAndGet(-quantity);
+        }
+
+        @Override
+        public int findQuantity(Long productId) {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public SalesStatus findSalesStatus(Long productId) {
+            return SalesStatus.SALES;
+        }
+
+        @Override
+        public void saveLease(String instanceId, Long productId, int quantity) {
+        }
+
+        @Override
+        public void deleteLease(String instanceId, Long productId) {
+        }
+
+        @Override
+        public Map<Long, Integer> findLeases(String instanceId) {
+            return Map.of();
+        }
+    }
+
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
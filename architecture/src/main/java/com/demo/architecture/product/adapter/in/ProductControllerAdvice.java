@@ -0,0 +1,31 @@
+package com.demo.architecture.product.adapter.in;
+
+import com.demo.architecture.product.exception.NotEnoughQuantityException;
+import com.demo.architecture.product.exception.ProductNotOnSaleException;
+import com.demo.architecture.product.exception.ProductSalesStatusConflictException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 잘못된 요청 값으로 만든 커맨드는 400 으로 응답한다.
+ * 요청은 올바르지만 지금 상품 상태와 맞지 않는 경우(판매 중이 아님, 재고 부족, 판매 상태 변경 충돌)는 409 로 응답한다.
+ */
+@RestControllerAdvice(basePackageClasses = ProductControllerAdvice.class)
+class ProductControllerAdvice {
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler({
+            ProductNotOnSaleException.class,
+            NotEnoughQuantityException.class,
+            ProductSalesStatusConflictException.class
+    })
+    public ResponseEntity<String> conflict(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+}
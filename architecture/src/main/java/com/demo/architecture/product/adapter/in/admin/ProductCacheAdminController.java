@@ -0,0 +1,26 @@
+package com.demo.architecture.product.adapter.in.admin;
+
+import com.demo.architecture.product.adapter.in.admin.response.ProductCacheStatsRes;
+import com.demo.architecture.product.application.port.in.GetProductCacheStatsQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/products")
+class ProductCacheAdminController {
+
+    private final GetProductCacheStatsQuery getProductCacheStatsQuery;
+
+    /**
+     * 상품 캐시 지표 조회하기
+     * @return
+     */
+    @GetMapping("/cache")
+    public ResponseEntity<ProductCacheStatsRes> getCacheStats() {
+        return ResponseEntity.ok(ProductCacheStatsRes.from(getProductCacheStatsQuery.getProductCacheStats()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.demo.architecture.product.adapter.in.admin.response;
+
+import com.demo.architecture.product.application.result.ProductCacheStatsResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProductCacheStatsRes {
+
+    private int size;
+    private long hits;
+    private long misses;
+    private long loads;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+    private double hitRate;
+
+    public static ProductCacheStatsRes from(ProductCacheStatsResult stats) {
+        return new ProductCacheStatsRes(
+                stats.getSize(),
+                stats.getHits(),
+                stats.getMisses(),
+                stats.getLoads(),
+                stats.getEvictions(),
+                stats.getExpirations(),
+                stats.getInvalidations(),
+                stats.getHitRate());
+    }
+}
@@ -1,13 +1,25 @@
 package com.demo.architecture.product.adapter.in.app;
 
+import com.demo.architecture.product.adapter.in.app.request.BulkSaleProductAppReq;
+import com.demo.architecture.product.adapter.in.app.response.ProductAppRes;
+import com.demo.architecture.product.adapter.in.app.response.PurchaseProductAppRes;
+import com.demo.architecture.product.adapter.in.app.response.BulkSaleProductAppRes;
 import com.demo.architecture.product.adapter.in.app.response.StartSaleProductAppRes;
+import com.demo.architecture.product.application.command.BulkSalesProductCommand;
+import com.demo.architecture.product.application.command.PurchaseProductCommand;
 import com.demo.architecture.product.application.command.StartSalesProductCommand;
+import com.demo.architecture.product.application.port.in.GetProductQuery;
+import com.demo.architecture.product.application.port.in.PurchaseProductUseCase;
 import com.demo.architecture.product.application.port.in.SalesProductUseCase;
+import com.demo.architecture.product.application.result.BulkSalesProductResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -16,6 +28,18 @@ import org.springframework.web.bind.annotation.RestController;
 class ProductAppController {
 
     private final SalesProductUseCase salesProductUsecase;
+    private final GetProductQuery getProductQuery;
+    private final PurchaseProductUseCase purchaseProductUseCase;
+
+    /**
+     * 상품 조회하기
+     * @param productId
+     * @return
+     */
+    @GetMapping("/{product-id}")
+    public ResponseEntity<ProductAppRes> getProduct(@PathVariable(value = "product-id") Long productId) {
+        return ResponseEntity.ok(ProductAppRes.from(getProductQuery.getProduct(productId)));
+    }
 
     /**
      * 상품 판매 시작하기
@@ -29,4 +53,48 @@ class ProductAppController {
                 .build());
         return ResponseEntity.ok(new StartSaleProductAppRes("[APP] " + productId + "번 상품 판매가 시작되었습니다."));
     }
+
+    /**
+     * 상품 판매 일괄 시작하기
+     * @param request
+     * @return
+     */
+    @PostMapping("/sale")
+    public ResponseEntity<BulkSaleProductAppRes> startSales(@RequestBody BulkSaleProductAppReq request) {
+        BulkSalesProductResult result = salesProductUsecase.startSales(BulkSalesProductCommand.builder()
+                .productIds(request.getProductIds())
+                .build());
+        return ResponseEntity.ok(new BulkSaleProductAppRes("[APP] " + result.getUpdated() + "개 상품 판매가 시작되었습니다.",
+                result.getRequested(), result.getUpdated()));
+    }
+
+    /**
+     * 상품 판매 일괄 중지하기
+     * @param request
+     * @return
+     */
+    @PostMapping("/stop-sale")
+    public ResponseEntity<BulkSaleProductAppRes> stopSales(@RequestBody BulkSaleProductAppReq request) {
+        BulkSalesProductResult result = salesProductUsecase.stopSales(BulkSalesProductCommand.builder()
+                .productIds(request.getProductIds())
+                .build());
+        return ResponseEntity.ok(new BulkSaleProductAppRes("[APP] " + result.getUpdated() + "개 상품 판매가 중지되었습니다.",
+                result.getRequested(), result.getUpdated()));
+    }
+
+    /**
+     * 상품 구매하기
+     * @param productId
+     * @param quantity
+     * @return
+     */
+    @PostMapping("/{product-id}/purchase")
+    public ResponseEntity<PurchaseProductAppRes> purchase(@PathVariable(value = "product-id") Long productId,
+            @RequestParam(value = "quantity", defaultValue = "1") int quantity) {
+        purchaseProductUseCase.purchase(PurchaseProductCommand.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .build());
+        return ResponseEntity.ok(new PurchaseProductAppRes("[APP] " + productId + "번 상품 " + quantity + "개 구매가 완료되었습니다."));
+    }
 }
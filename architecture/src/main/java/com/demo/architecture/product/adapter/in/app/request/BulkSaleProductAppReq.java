@@ -0,0 +1,13 @@
+package com.demo.architecture.product.adapter.in.app.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class BulkSaleProductAppReq {
+
+    private List<Long> productIds;
+}
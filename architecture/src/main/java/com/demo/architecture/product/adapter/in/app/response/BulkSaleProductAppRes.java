@@ -0,0 +1,13 @@
+package com.demo.architecture.product.adapter.in.app.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BulkSaleProductAppRes {
+
+    private String message;
+    private int requested;
+    private int updated;
+}
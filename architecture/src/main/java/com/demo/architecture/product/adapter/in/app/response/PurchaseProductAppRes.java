@@ -0,0 +1,11 @@
+package com.demo.architecture.product.adapter.in.app.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PurchaseProductAppRes {
+
+    private String message;
+}
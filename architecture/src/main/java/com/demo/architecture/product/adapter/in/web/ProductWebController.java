@@ -1,13 +1,25 @@
 package com.demo.architecture.product.adapter.in.web;
 
+import com.demo.architecture.product.adapter.in.web.request.BulkSalesProductWebReq;
+import com.demo.architecture.product.adapter.in.web.response.ProductWebRes;
+import com.demo.architecture.product.adapter.in.web.response.PurchaseProductWebRes;
+import com.demo.architecture.product.adapter.in.web.response.BulkSalesProductWebRes;
 import com.demo.architecture.product.adapter.in.web.response.StartSalesProductWebRes;
+import com.demo.architecture.product.application.command.BulkSalesProductCommand;
+import com.demo.architecture.product.application.command.PurchaseProductCommand;
 import com.demo.architecture.product.application.command.StartSalesProductCommand;
+import com.demo.architecture.product.application.port.in.GetProductQuery;
+import com.demo.architecture.product.application.port.in.PurchaseProductUseCase;
 import com.demo.architecture.product.application.port.in.SalesProductUseCase;
+import com.demo.architecture.product.application.result.BulkSalesProductResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -16,6 +28,18 @@ import org.springframework.web.bind.annotation.RestController;
 class ProductWebController {
 
     private final SalesProductUseCase salesProductUsecase;
+    private final GetProductQuery getProductQuery;
+    private final PurchaseProductUseCase purchaseProductUseCase;
+
+    /**
+     * 상품 조회하기
+     * @param productId
+     * @return
+     */
+    @GetMapping("/{product-id}")
+    public ResponseEntity<ProductWebRes> getProduct(@PathVariable(value = "product-id") Long productId) {
+        return ResponseEntity.ok(ProductWebRes.from(getProductQuery.getProduct(productId)));
+    }
 
     /**
      * 상품 판매 시작하기
@@ -29,4 +53,48 @@ class ProductWebController {
                 .build());
         return ResponseEntity.ok(new StartSalesProductWebRes("[WEB] " + productId + "번 상품 판매가 시작되었습니다."));
     }
+
+    /**
+     * 상품 판매 일괄 시작하기
+     * @param request
+     * @return
+     */
+    @PostMapping("/sale")
+    public ResponseEntity<BulkSalesProductWebRes> startSales(@RequestBody BulkSalesProductWebReq request) {
+        BulkSalesProductResult result = salesProductUsecase.startSales(BulkSalesProductCommand.builder()
+                .productIds(request.getProductIds())
+                .build());
+        return ResponseEntity.ok(new BulkSalesProductWebRes("[WEB] " + result.getUpdated() + "개 상품 판매가 시작되었습니다.",
+                result.getRequested(), result.getUpdated()));
+    }
+
+    /**
+     * 상품 판매 일괄 중지하기
+     * @param request
+     * @return
+     */
+    @PostMapping("/stop-sale")
+    public ResponseEntity<BulkSalesProductWebRes> stopSales(@RequestBody BulkSalesProductWebReq request) {
+        BulkSalesProductResult result = salesProductUsecase.stopSales(BulkSalesProductCommand.builder()
+                .productIds(request.getProductIds())
+                .build());
+        return ResponseEntity.ok(new BulkSalesProductWebRes("[WEB] " + result.getUpdated() + "개 상품 판매가 중지되었습니다.",
+                result.getRequested(), result.getUpdated()));
+    }
+
+    /**
+     * 상품 구매하기
+     * @param productId
+     * @param quantity
+     * @return
+     */
+    @PostMapping("/{product-id}/purchase")
+    public ResponseEntity<PurchaseProductWebRes> purchase(@PathVariable(value = "product-id") Long productId,
+            @RequestParam(value = "quantity", defaultValue = "1") int quantity) {
+        purchaseProductUseCase.purchase(PurchaseProductCommand.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .build());
+        return ResponseEntity.ok(new PurchaseProductWebRes("[WEB] " + productId + "번 상품 " + quantity + "개 구매가 완료되었습니다."));
+    }
 }
@@ -0,0 +1,13 @@
+package com.demo.architecture.product.adapter.in.web.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class BulkSalesProductWebReq {
+
+    private List<Long> productIds;
+}
@@ -0,0 +1,15 @@
+package com.demo.architecture.product.adapter.in.web.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class BulkSalesProductWebRes {
+
+    private String message;
+    private int requested;
+    private int updated;
+}
@@ -0,0 +1,27 @@
+package com.demo.architecture.product.adapter.in.web.response;
+
+import com.demo.architecture.product.domain.Product;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProductWebRes {
+
+    private Long productId;
+    private String productName;
+    private String seller;
+    private int price;
+    private int quantity;
+    private String status;
+
+    public static ProductWebRes from(Product product) {
+        return new ProductWebRes(
+                product.getProductId(),
+                product.getProductInfo().getProductName(),
+                product.getProductInfo().getSeller(),
+                product.getProductMetaInfo().getPrice(),
+                product.getProductMetaInfo().getQuantity(),
+                product.getProductSalesInfo().getStatus().toString());
+    }
+}
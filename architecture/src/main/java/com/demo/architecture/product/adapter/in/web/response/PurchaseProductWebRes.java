@@ -0,0 +1,13 @@
+package com.demo.architecture.product.adapter.in.web.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class PurchaseProductWebRes {
+
+    private String message;
+}
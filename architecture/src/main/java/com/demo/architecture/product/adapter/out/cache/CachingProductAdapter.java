@@ -0,0 +1,280 @@
+package com.demo.architecture.product.adapter.out.cache;
+
+import com.demo.architecture.product.application.port.out.LoadProductCacheStatsPort;
+import com.demo.architecture.product.application.port.out.LoadProductPort;
+import com.demo.architecture.product.application.port.out.ProductStockPort;
+import com.demo.architecture.product.application.port.out.SaveProductPort;
+import com.demo.architecture.product.application.port.out.UpdateProductSalesStatusPort;
+import com.demo.architecture.product.application.result.ProductCacheStatsResult;
+import com.demo.architecture.product.domain.Product;
+import com.demo.architecture.product.domain.SalesStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 조회 결과를 LRU + TTL 로 보관하는 LoadProductPort 데코레이터.
+ * 같은 상품을 동시에 놓친 요청은 한 번의 조회 결과를 함께 기다린다.
+ * 저장과 판매 상태 변경은 원본 포트에 위임한 뒤 해당 상품을 캐시에서 지우고, 트랜잭션이 커밋된 뒤 한 번 더 지운다.
+ * 읽기 전용이 아닌 트랜잭션에서의 조회는 캐시를 거치지 않는다. 변경할 상품은 항상 최신 행에서 읽어야 하기 때문이다.
+ * 캐시된 상품은 호출마다 복사해서 돌려주므로 호출자가 상태를 바꿔도 캐시에는 영향이 없다.
+ * 캐시는 상품 id 로 나눈 segments 개의 LRU 구획이며 구획마다 따로 잠그므로, 다른 구획의 조회끼리는 서로 기다리지 않는다.
+ * 최대 크기는 구획별로 나누어 지키므로 LRU 순서도 구획 안에서만 정확하다.
+ */
+@Primary
+@Component
+public class CachingProductAdapter implements LoadProductPort, SaveProductPort, UpdateProductSalesStatusPort, ProductStockPort,
+        LoadProductCacheStatsPort {
+
+    private final LoadProductPort loadProductPort;
+    private final SaveProductPort saveProductPort;
+    private final UpdateProductSalesStatusPort updateProductSalesStatusPort;
+    private final ProductStockPort productStockPort;
+
+    private final long ttlNanos;
+    private final Segment[] segments;
+    private final Map<Long, CompletableFuture<Product>> loading = new ConcurrentHashMap<>();
+    private final ProductCacheStats stats = new ProductCacheStats();
+
+    public CachingProductAdapter(@Qualifier("productPersistenceAdapter") LoadProductPort loadProductPort,
+                                 @Qualifier("productPersistenceAdapter") SaveProductPort saveProductPort,
+                                 @Qualifier("productPersistenceAdapter") UpdateProductSalesStatusPort updateProductSalesStatusPort,
+                                 @Qualifier("productPersistenceAdapter") ProductStockPort productStockPort,
+                                 @Value("${product.cache.maximum-size:10000}") int maximumSize,
+                                 @Value("${product.cache.ttl:PT1M}") Duration ttl,
+                                 @Value("${product.cache.segments:16}") int segments) {
+        if (maximumSize <= 0 || segments <= 0) {
+            throw new IllegalArgumentException("cache maximum size and segments must be positive");
+        }
+        this.loadProductPort = loadProductPort;
+        this.saveProductPort = saveProductPort;
+        this.updateProductSalesStatusPort = updateProductSalesStatusPort;
+        this.productStockPort = productStockPort;
+        this.ttlNanos = ttl.toNanos();
+        int count = Integer.highestOneBit(Math.min(segments, maximumSize));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            this.segments[i] = new Segment(maximumSize / count + (i < maximumSize % count ? 1 : 0), stats);
+        }
+    }
+
+    @Override
+    public Product findById(Long productId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loadProductPort.findById(productId);
+        }
+
+        Product cached = getIfPresent(productId);
+        if (cached != null) {
+            stats.recordHit();
+            return copyOf(cached);
+        }
+        stats.recordMiss();
+
+        CompletableFuture<Product> load = new CompletableFuture<>();
+        CompletableFuture<Product> inFlight = loading.putIfAbsent(productId, load);
+        if (inFlight != null) {
+            return copyOf(join(inFlight));
+        }
+
+        try {
+            stats.recordLoad();
+            Product product = loadProductPort.findById(productId);
+            Segment segment = segmentOf(productId);
+            synchronized (segment) {
+                if (loading.get(productId) == load) {
+                    segment.put(productId, new CachedProduct(product, System.nanoTime() + ttlNanos));
+                }
+            }
+            load.complete(product);
+            return copyOf(product);
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(productId, load);
+        }
+    }
+
+    @Override
+    public void save(Product product) {
+        saveProductPort.save(product);
+        invalidate(List.of(product.getProductId()));
+    }
+
+    @Override
+    public int updateSalesStatus(List<Long> productIds, SalesStatus status) {
+        int updated = updateProductSalesStatusPort.updateSalesStatus(productIds, status);
+        invalidate(productIds);
+        return updated;
+    }
+
+    @Override
+    public boolean decreaseQuantity(Long productId, int quantity) {
+        boolean decreased = productStockPort.decreaseQuantity(productId, quantity);
+        if (decreased) {
+            invalidate(List.of(productId));
+        }
+        return decreased;
+    }
+
+    @Override
+    public void increaseQuantity(Long productId, int quantity) {
+        productStockPort.increaseQuantity(productId, quantity);
+        invalidate(List.of(productId));
+    }
+
+    @Override
+    public int findQuantity(Long productId) {
+        return productStockPort.findQuantity(productId);
+    }
+
+    @Override
+    public SalesStatus findSalesStatus(Long productId) {
+        return productStockPort.findSalesStatus(productId);
+    }
+
+    @Override
+    public ProductCacheStatsResult loadProductCacheStats() {
+        return ProductCacheStatsResult.builder()
+                .size(size())
+                .hits(stats.getHits())
+                .misses(stats.getMisses())
+                .loads(stats.getLoads())
+                .evictions(stats.getEvictions())
+                .expirations(stats.getExpirations())
+                .invalidations(stats.getInvalidations())
+                .hitRate(stats.getHitRate())
+                .build();
+    }
+
+    public ProductCacheStats getStats() {
+        return stats;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment segmentOf(Long productId) {
+        int hash = productId.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private Product getIfPresent(Long productId) {
+        Segment segment = segmentOf(productId);
+        synchronized (segment) {
+            CachedProduct cached = segment.get(productId);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAt - System.nanoTime() <= 0) {
+                segment.remove(productId);
+                stats.recordExpiration();
+                return null;
+            }
+            return cached.product;
+        }
+    }
+
+    /**
+     * 진행 중인 조회도 함께 끊어서, 변경 전 값을 읽은 조회가 변경 후에 캐시를 채우지 못하게 한다.
+     */
+    private void invalidate(List<Long> productIds) {
+        evict(productIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(productIds);
+                }
+            });
+        }
+    }
+
+    private void evict(List<Long> productIds) {
+        for (Long productId : productIds) {
+            Segment segment = segmentOf(productId);
+            synchronized (segment) {
+                loading.remove(productId);
+                if (segment.remove(productId) != null) {
+                    stats.recordInvalidation();
+                }
+            }
+        }
+    }
+
+    private static Product join(CompletableFuture<Product> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static Product copyOf(Product product) {
+        return Product.withId()
+                .productId(product.getProductId())
+                .productInfo(product.getProductInfo())
+                .productSalesInfo(product.getProductSalesInfo())
+                .productMetaInfo(product.getProductMetaInfo())
+                .version(product.getVersion())
+                .build();
+    }
+
+    /**
+     * 접근 순서를 유지하는 구획 하나. 자기 자신을 잠금으로 쓴다.
+     */
+    private static final class Segment extends LinkedHashMap<Long, CachedProduct> {
+
+        private final int maximumSize;
+        private final ProductCacheStats stats;
+
+        private Segment(int maximumSize, ProductCacheStats stats) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+            this.stats = stats;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedProduct> eldest) {
+            if (size() > maximumSize) {
+                stats.recordEviction();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class CachedProduct {
+
+        private final Product product;
+        private final long expiresAt;
+
+        private CachedProduct(Product product, long expiresAt) {
+            this.product = product;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.demo.architecture.product.adapter.out.persistence;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 엔티티 단위 INSERT/UPDATE 를 JDBC 배치로 묶는다. 버전 컬럼이 있는 엔티티의 UPDATE 도 배치에 포함하고,
+ * 같은 테이블의 문장끼리 모이도록 정렬한다.
+ */
+@Configuration
+class HibernateBatchConfig {
+
+    static final int BATCH_SIZE = 1000;
+
+    @Bean
+    HibernatePropertiesCustomizer hibernateBatchCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE);
+            hibernateProperties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+            hibernateProperties.put(AvailableSettings.ORDER_INSERTS, true);
+            hibernateProperties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
@@ -4,11 +4,13 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 
 @Getter
 @Entity
+@DynamicUpdate
 @Table(name = "PRODUCT")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 class ProductJpaEntity {
@@ -34,6 +36,10 @@ class ProductJpaEntity {
     @Column(name = "product_quantity")
     private int quantity;
 
+    @Version
+    @Column(name = "product_version", nullable = false)
+    private long version;
+
     @Builder
     public ProductJpaEntity(String productName, String seller, SalesStatusJpa status, int price, int quantity) {
         this.productName = productName;
@@ -43,11 +49,14 @@ class ProductJpaEntity {
         this.quantity = quantity;
     }
 
-    public void update(ProductJpaEntity target) {
-        this.productName = target.getProductName();
-        this.seller = target.getSeller();
-        this.status = target.getStatus();
-        this.price = target.getPrice();
-        this.price = target.getPrice();
+    /**
+     * 관리 중인 엔티티에 값을 그대로 대입한다. 바뀐 컬럼만 flush 시점의 UPDATE 에 포함된다.
+     */
+    public void update(String productName, String seller, SalesStatusJpa status, int price, int quantity) {
+        this.productName = productName;
+        this.seller = seller;
+        this.status = status;
+        this.price = price;
+        this.quantity = quantity;
     }
 }
@@ -1,7 +1,34 @@
 package com.demo.architecture.product.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
 
 interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, Long> {
 
+    @Modifying(clearAutomatically = true)
+    @Query("update ProductJpaEntity p set p.status = :status, p.version = p.version + 1 where p.id in :productIds")
+    int updateStatus(@Param("productIds") Collection<Long> productIds, @Param("status") SalesStatusJpa status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update ProductJpaEntity p set p.quantity = p.quantity - :quantity, p.version = p.version + 1 "
+            + "where p.id = :productId and p.status = :status and p.quantity >= :quantity")
+    int decreaseQuantity(@Param("productId") Long productId,
+                         @Param("status") SalesStatusJpa status,
+                         @Param("quantity") int quantity);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update ProductJpaEntity p set p.quantity = p.quantity + :quantity, p.version = p.version + 1 "
+            + "where p.id = :productId")
+    int increaseQuantity(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Query("select p.quantity from ProductJpaEntity p where p.id = :productId")
+    Optional<Integer> findQuantityById(@Param("productId") Long productId);
+
+    @Query("select p.status from ProductJpaEntity p where p.id = :productId")
+    Optional<SalesStatusJpa> findStatusById(@Param("productId") Long productId);
 }
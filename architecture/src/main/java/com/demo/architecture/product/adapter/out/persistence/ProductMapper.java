@@ -23,6 +23,7 @@ class ProductMapper {
                 .productSalesInfo(ProductSalesInfo.withStatus()
                         .status(SalesStatus.valueOf(productJpaEntity.getStatus().toString()))
                         .build())
+                .version(productJpaEntity.getVersion())
                 .build();
     }
 
@@ -35,4 +36,13 @@ class ProductMapper {
                 .status(SalesStatusJpa.valueOf(product.getProductSalesInfo().getStatus().toString()))
                 .build();
     }
+
+    public void updateJpaEntity(Product product, ProductJpaEntity productJpaEntity) {
+        productJpaEntity.update(
+                product.getProductInfo().getProductName(),
+                product.getProductInfo().getSeller(),
+                SalesStatusJpa.valueOf(product.getProductSalesInfo().getStatus().toString()),
+                product.getProductMetaInfo().getPrice(),
+                product.getProductMetaInfo().getQuantity());
+    }
 }
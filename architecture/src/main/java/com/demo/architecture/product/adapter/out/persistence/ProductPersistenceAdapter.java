@@ -1,15 +1,22 @@
 package com.demo.architecture.product.adapter.out.persistence;
 
 import com.demo.architecture.product.application.port.out.LoadProductPort;
+import com.demo.architecture.product.application.port.out.ProductStockPort;
 import com.demo.architecture.product.application.port.out.SaveProductPort;
+import com.demo.architecture.product.application.port.out.UpdateProductSalesStatusPort;
 import com.demo.architecture.product.domain.Product;
+import com.demo.architecture.product.domain.SalesStatus;
 import com.demo.architecture.product.exception.NoProductException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Objects;
+
 @Repository
 @RequiredArgsConstructor
-class ProductPersistenceAdapter implements LoadProductPort, SaveProductPort {
+class ProductPersistenceAdapter implements LoadProductPort, SaveProductPort, UpdateProductSalesStatusPort, ProductStockPort {
 
     private final ProductJpaRepository productRepository;
     private final ProductMapper mapper;
@@ -20,10 +27,48 @@ class ProductPersistenceAdapter implements LoadProductPort, SaveProductPort {
         return mapper.toDomain(productJpaEntity);
     }
 
+    /**
+     * 같은 트랜잭션에서 이미 조회한 엔티티라면 findById 는 영속성 컨텍스트에서 바로 돌려준다.
+     * 상품이 조회될 때 가져간 버전과 지금 엔티티의 버전이 다르면 쓰지 않고 실패한다.
+     * 캐시나 이전 트랜잭션에서 읽은 상품이 그 사이 구매로 줄어든 재고를 옛 값으로 덮어쓰지 않게 하기 위해서다.
+     * 관리 중인 엔티티에 값을 반영하므로 바뀐 컬럼만 UPDATE 된다.
+     * 바로 flush 해서, 그 사이 다른 트랜잭션이 먼저 바꿨다면 버전 충돌이 이 호출에서 드러나게 한다.
+     */
     @Override
     public void save(Product product) {
-        ProductJpaEntity target = mapper.toJpaEntity(product);
         ProductJpaEntity productJpaEntity = productRepository.findById(product.getProductId()).orElseThrow(NoProductException::new);
-        productJpaEntity.update(target);
+        if (!Objects.equals(product.getVersion(), productJpaEntity.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(ProductJpaEntity.class, product.getProductId());
+        }
+        mapper.updateJpaEntity(product, productJpaEntity);
+        productRepository.flush();
+    }
+
+    @Override
+    public int updateSalesStatus(List<Long> productIds, SalesStatus status) {
+        return productRepository.updateStatus(productIds, SalesStatusJpa.valueOf(status.toString()));
+    }
+
+    @Override
+    public boolean decreaseQuantity(Long productId, int quantity) {
+        return productRepository.decreaseQuantity(productId, SalesStatusJpa.SALES, quantity) == 1;
+    }
+
+    @Override
+    public void increaseQuantity(Long productId, int quantity) {
+        if (productRepository.increaseQuantity(productId, quantity) == 0) {
+            throw new NoProductException();
+        }
+    }
+
+    @Override
+    public int findQuantity(Long productId) {
+        return productRepository.findQuantityById(productId).orElseThrow(NoProductException::new);
+    }
+
+    @Override
+    public SalesStatus findSalesStatus(Long productId) {
+        SalesStatusJpa status = productRepository.findStatusById(productId).orElseThrow(NoProductException::new);
+        return SalesStatus.valueOf(status.toString());
     }
 }
@@ -0,0 +1,39 @@
+package com.demo.architecture.product.adapter.out.persistence;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Getter
+@Entity
+@Table(name = "PRODUCT_STOCK_LEASE",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"instance_id", "product_id"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+class ProductStockLeaseJpaEntity {
+
+    @Id
+    @GeneratedValue
+    @Column(name = "lease_id")
+    private Long id;
+
+    @Column(name = "instance_id", nullable = false)
+    private String instanceId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "leased_quantity", nullable = false)
+    private int quantity;
+
+    public ProductStockLeaseJpaEntity(String instanceId, Long productId, int quantity) {
+        this.instanceId = instanceId;
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    public void update(int quantity) {
+        this.quantity = quantity;
+    }
+}
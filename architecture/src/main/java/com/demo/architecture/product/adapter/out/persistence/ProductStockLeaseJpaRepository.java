@@ -0,0 +1,20 @@
+package com.demo.architecture.product.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+interface ProductStockLeaseJpaRepository extends JpaRepository<ProductStockLeaseJpaEntity, Long> {
+
+    Optional<ProductStockLeaseJpaEntity> findByInstanceIdAndProductId(String instanceId, Long productId);
+
+    List<ProductStockLeaseJpaEntity> findAllByInstanceId(String instanceId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ProductStockLeaseJpaEntity l where l.instanceId = :instanceId and l.productId = :productId")
+    int deleteLease(@Param("instanceId") String instanceId, @Param("productId") Long productId);
+}
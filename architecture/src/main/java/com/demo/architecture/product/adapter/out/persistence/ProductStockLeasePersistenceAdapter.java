@@ -0,0 +1,33 @@
+package com.demo.architecture.product.adapter.out.persistence;
+
+import com.demo.architecture.product.application.port.out.ProductStockLeasePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+class ProductStockLeasePersistenceAdapter implements ProductStockLeasePort {
+
+    private final ProductStockLeaseJpaRepository leaseRepository;
+
+    @Override
+    public void saveLease(String instanceId, Long productId, int quantity) {
+        leaseRepository.findByInstanceIdAndProductId(instanceId, productId)
+                .ifPresentOrElse(lease -> lease.update(quantity),
+                        () -> leaseRepository.save(new ProductStockLeaseJpaEntity(instanceId, productId, quantity)));
+    }
+
+    @Override
+    public void deleteLease(String instanceId, Long productId) {
+        leaseRepository.deleteLease(instanceId, productId);
+    }
+
+    @Override
+    public Map<Long, Integer> findLeases(String instanceId) {
+        return leaseRepository.findAllByInstanceId(instanceId).stream()
+                .collect(Collectors.toMap(ProductStockLeaseJpaEntity::getProductId, ProductStockLeaseJpaEntity::getQuantity));
+    }
+}
@@ -0,0 +1,24 @@
+package com.demo.architecture.product.application.command;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Objects;
+
+@Getter
+public class BulkSalesProductCommand {
+
+    private List<Long> productIds;
+
+    @Builder
+    public BulkSalesProductCommand(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            throw new IllegalArgumentException("productIds must not be empty");
+        }
+        if (productIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("productIds must not contain null");
+        }
+        this.productIds = productIds;
+    }
+}
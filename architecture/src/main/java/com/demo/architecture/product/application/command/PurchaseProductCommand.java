@@ -0,0 +1,14 @@
+package com.demo.architecture.product.application.command;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PurchaseProductCommand {
+
+    private Long productId;
+    private int quantity;
+}
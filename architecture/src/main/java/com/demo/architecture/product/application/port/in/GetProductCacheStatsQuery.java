@@ -0,0 +1,8 @@
+package com.demo.architecture.product.application.port.in;
+
+import com.demo.architecture.product.application.result.ProductCacheStatsResult;
+
+public interface GetProductCacheStatsQuery {
+
+    ProductCacheStatsResult getProductCacheStats();
+}
@@ -0,0 +1,8 @@
+package com.demo.architecture.product.application.port.in;
+
+import com.demo.architecture.product.domain.Product;
+
+public interface GetProductQuery {
+
+    Product getProduct(Long productId);
+}
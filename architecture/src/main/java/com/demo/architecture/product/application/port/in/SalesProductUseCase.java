@@ -1,8 +1,14 @@
 package com.demo.architecture.product.application.port.in;
 
+import com.demo.architecture.product.application.command.BulkSalesProductCommand;
 import com.demo.architecture.product.application.command.StartSalesProductCommand;
+import com.demo.architecture.product.application.result.BulkSalesProductResult;
 
 public interface SalesProductUseCase {
 
     void startSalesProduct(StartSalesProductCommand cmd);
+
+    BulkSalesProductResult startSales(BulkSalesProductCommand cmd);
+
+    BulkSalesProductResult stopSales(BulkSalesProductCommand cmd);
 }
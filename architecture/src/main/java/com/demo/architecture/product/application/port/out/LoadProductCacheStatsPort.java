@@ -0,0 +1,8 @@
+package com.demo.architecture.product.application.port.out;
+
+import com.demo.architecture.product.application.result.ProductCacheStatsResult;
+
+public interface LoadProductCacheStatsPort {
+
+    ProductCacheStatsResult loadProductCacheStats();
+}
@@ -0,0 +1,18 @@
+package com.demo.architecture.product.application.port.out;
+
+import java.util.Map;
+
+/**
+ * 서버(instanceId)가 상품 재고에서 떼어 가 아직 판매 가능 상태로 풀지 않은 양을 기록한다.
+ */
+public interface ProductStockLeasePort {
+
+    void saveLease(String instanceId, Long productId, int quantity);
+
+    void deleteLease(String instanceId, Long productId);
+
+    /**
+     * @return 상품 id 별로 기록된 양
+     */
+    Map<Long, Integer> findLeases(String instanceId);
+}
@@ -0,0 +1,21 @@
+package com.demo.architecture.product.application.port.out;
+
+import com.demo.architecture.product.domain.SalesStatus;
+
+public interface ProductStockPort {
+
+    /**
+     * 판매 중이고 재고가 quantity 이상일 때만 quantity 만큼 줄인다. 조건을 포함한 UPDATE 한 번으로 끝난다.
+     * @return 줄였으면 true, 판매 중이 아니거나 재고가 부족하거나 상품이 없으면 false
+     */
+    boolean decreaseQuantity(Long productId, int quantity);
+
+    void increaseQuantity(Long productId, int quantity);
+
+    int findQuantity(Long productId);
+
+    /**
+     * 캐시를 거치지 않고 현재 판매 상태를 읽는다.
+     */
+    SalesStatus findSalesStatus(Long productId);
+}
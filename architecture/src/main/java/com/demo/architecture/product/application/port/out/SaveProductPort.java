@@ -4,5 +4,10 @@ import com.demo.architecture.product.domain.Product;
 
 public interface SaveProductPort {
 
+    /**
+     * 상품이 가진 버전(조회한 시점의 버전)을 조건으로 바뀐 컬럼만 UPDATE 한다. 행 잠금을 미리 잡지 않는다.
+     * 다른 트랜잭션이나 캐시에서 읽어 온 상품이라도 그 뒤 구매나 상태 변경이 있었다면 쓰지 않는다.
+     * @throws org.springframework.dao.OptimisticLockingFailureException 조회한 뒤 상품이 바뀌었거나 버전이 없는 상품일 때
+     */
     void save(Product product);
 }
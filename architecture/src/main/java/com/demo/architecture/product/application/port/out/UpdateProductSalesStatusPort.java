@@ -0,0 +1,13 @@
+package com.demo.architecture.product.application.port.out;
+
+import com.demo.architecture.product.domain.SalesStatus;
+
+import java.util.List;
+
+public interface UpdateProductSalesStatusPort {
+
+    /**
+     * 상품들의 판매 상태를 한 번의 UPDATE 로 바꾸고, 변경된 상품 수를 돌려준다.
+     */
+    int updateSalesStatus(List<Long> productIds, SalesStatus status);
+}
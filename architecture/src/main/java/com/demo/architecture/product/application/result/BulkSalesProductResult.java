@@ -0,0 +1,16 @@
+package com.demo.architecture.product.application.result;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 판매 상태 변경 결과. updated 는 실제로 존재해 변경된 상품 수다.
+ */
+@Getter
+@AllArgsConstructor
+public class BulkSalesProductResult {
+
+    private int requested;
+    private int updated;
+    private int chunks;
+}
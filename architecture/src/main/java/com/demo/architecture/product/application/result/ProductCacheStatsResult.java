@@ -0,0 +1,21 @@
+package com.demo.architecture.product.application.result;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 캐시 지표. loads 는 실제로 원본 저장소를 조회한 횟수다.
+ */
+@Getter
+@Builder
+public class ProductCacheStatsResult {
+
+    private int size;
+    private long hits;
+    private long misses;
+    private long loads;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+    private double hitRate;
+}
@@ -0,0 +1,19 @@
+package com.demo.architecture.product.application.service;
+
+import com.demo.architecture.product.application.port.in.GetProductCacheStatsQuery;
+import com.demo.architecture.product.application.port.out.LoadProductCacheStatsPort;
+import com.demo.architecture.product.application.result.ProductCacheStatsResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+class GetProductCacheStatsService implements GetProductCacheStatsQuery {
+
+    private final LoadProductCacheStatsPort loadProductCacheStatsPort;
+
+    @Override
+    public ProductCacheStatsResult getProductCacheStats() {
+        return loadProductCacheStatsPort.loadProductCacheStats();
+    }
+}
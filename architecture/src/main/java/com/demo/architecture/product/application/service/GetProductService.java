@@ -0,0 +1,21 @@
+package com.demo.architecture.product.application.service;
+
+import com.demo.architecture.product.application.port.in.GetProductQuery;
+import com.demo.architecture.product.application.port.out.LoadProductPort;
+import com.demo.architecture.product.domain.Product;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+class GetProductService implements GetProductQuery {
+
+    private final LoadProductPort loadProductPort;
+
+    @Override
+    public Product getProduct(Long productId) {
+        return loadProductPort.findById(productId);
+    }
+}
@@ -0,0 +1,258 @@
+package com.demo.architecture.product.application.service;
+
+import com.demo.architecture.product.application.port.out.ProductStockLeasePort;
+import com.demo.architecture.product.application.port.out.ProductStockPort;
+import com.demo.architecture.product.domain.SalesStatus;
+import com.demo.architecture.product.exception.NoProductException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 구매가 몰리는 상품의 재고를 메모리에서 차감한다.
+ * 판매 중인 인기 상품은 product_quantity 에서 leaseSize 만큼을 조건부 UPDATE 로 떼어 와 임대로 잡아 두고,
+ * 그중 정산 주기 한 번에 팔릴 만큼(직전 주기 판매량의 두 배, 최소 hotThreshold)만 StripedStock 에 풀어 판다.
+ * 구매는 이 카운터에서만 차감하므로 DB 를 거치지 않는다. DB 재고는 떼어 온 만큼 이미 줄어 있으므로
+ * 여러 서버가 같은 상품을 팔아도 초과 판매되지 않는다.
+ * 아직 풀지 않은 임대는 서버(instanceId)별 임대 행에 기록하고, 떼어 오거나 풀 때 같은 트랜잭션에서 갱신한다.
+ * 프로세스가 비정상 종료되면 풀어 둔 재고 중 팔리지 않은 양만 잃고, 같은 instanceId 로 다시 뜨면 임대 행의 양을 DB 재고로 돌려받는다.
+ * 판매 중인 상품만 인기 상품으로 올린다. 정산 주기마다 판매 상태를 확인해 판매 중이 아닌 상품과 한동안 팔리지 않은 상품은 남은 재고를 DB 에 돌려준다.
+ */
+@Slf4j
+@Component
+class HotProductStock {
+
+    private static final int IDLE_TICKS = 50;
+
+    private final ProductStockPort productStockPort;
+    private final ProductStockLeasePort productStockLeasePort;
+    private final TransactionTemplate transactionTemplate;
+    private final String instanceId;
+    private final int leaseSize;
+    private final int hotThreshold;
+    private final int stripes;
+
+    private final Map<Long, Lease> leases = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> attempts = new ConcurrentHashMap<>();
+
+    /**
+     * instanceId 는 서버마다 달라야 하고 재시작해도 같아야 한다. 기본값은 HOSTNAME 환경 변수다.
+     */
+    HotProductStock(ProductStockPort productStockPort,
+                    ProductStockLeasePort productStockLeasePort,
+                    TransactionTemplate transactionTemplate,
+                    @Value("${product.stock.instance-id:${HOSTNAME:local}}") String instanceId,
+                    @Value("${product.stock.lease-size:1000}") int leaseSize,
+                    @Value("${product.stock.hot-threshold:200}") int hotThreshold) {
+        this.productStockPort = productStockPort;
+        this.productStockLeasePort = productStockLeasePort;
+        this.transactionTemplate = transactionTemplate;
+        this.instanceId = instanceId;
+        this.leaseSize = leaseSize;
+        this.hotThreshold = hotThreshold;
+        this.stripes = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * 이전 실행에서 이 서버가 떼어 간 채로 남은 임대를 DB 재고로 돌려놓는다.
+     */
+    @PostConstruct
+    void reclaim() {
+        productStockLeasePort.findLeases(instanceId).forEach((productId, quantity) -> {
+            try {
+                transactionTemplate.executeWithoutResult(tx -> {
+                    if (quantity > 0) {
+                        productStockPort.increaseQuantity(productId, quantity);
+                    }
+                    productStockLeasePort.deleteLease(instanceId, productId);
+                });
+                log.info("reclaimed {} leased units of product {}", quantity, productId);
+            } catch (RuntimeException e) {
+                log.warn("failed to reclaim leased stock of product {}", productId, e);
+            }
+        });
+    }
+
+    /**
+     * 메모리에 풀어 둔 재고에서 차감한다. 풀어 둔 재고가 모자라면 아직 풀지 않은 임대에서 더 풀어 온 뒤 한 번 더 시도한다.
+     * 인기 상품이 아니거나 그래도 모자라면 false 를 돌려주며, 호출자는 DB 재고에서 직접 차감해야 한다.
+     * 임대는 판매 중인 상품에만 있다.
+     */
+    boolean tryPurchase(Long productId, int quantity) {
+        Lease lease = leases.get(productId);
+        if (lease == null) {
+            attempts.computeIfAbsent(productId, id -> new LongAdder()).increment();
+            return false;
+        }
+        if (lease.stock.tryTake(quantity)) {
+            return true;
+        }
+        if (lease.reserve == 0) {
+            return false;
+        }
+        replenish(productId, lease, quantity);
+        return lease.stock.tryTake(quantity);
+    }
+
+    /**
+     * 상품을 인기 상품으로 올리고 바로 재고를 떼어 온다. 떼어 오다 실패하면 새로 만든 빈 임대는 치운다.
+     */
+    void promote(Long productId) {
+        Lease created = new Lease(new StripedStock(stripes));
+        Lease lease = leases.computeIfAbsent(productId, id -> created);
+        try {
+            replenish(productId, lease, 0);
+        } catch (RuntimeException e) {
+            if (lease == created) {
+                leases.remove(productId, lease);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 판매 상태가 판매 중에서 바뀐 상품의 임대를 바로 내려보낸다.
+     */
+    void release(Collection<Long> productIds) {
+        for (Long productId : productIds) {
+            Lease lease = leases.get(productId);
+            if (lease == null) {
+                continue;
+            }
+            try {
+                demote(productId, lease);
+            } catch (RuntimeException e) {
+                log.warn("failed to release leased stock of product {}", productId, e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.stock.reconcile-interval-ms:100}")
+    void reconcile() {
+        for (Iterator<Map.Entry<Long, LongAdder>> it = attempts.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, LongAdder> entry = it.next();
+            it.remove();
+            Long productId = entry.getKey();
+            if (entry.getValue().sum() < hotThreshold) {
+                continue;
+            }
+            try {
+                if (productStockPort.findSalesStatus(productId) == SalesStatus.SALES) {
+                    promote(productId);
+                }
+            } catch (NoProductException e) {
+                // 없는 상품에 대한 구매 시도다. 올리지 않는다.
+            } catch (RuntimeException e) {
+                log.warn("failed to promote product {}", productId, e);
+            }
+        }
+
+        for (Map.Entry<Long, Lease> entry : leases.entrySet()) {
+            Long productId = entry.getKey();
+            Lease lease = entry.getValue();
+            try {
+                long sold = lease.stock.sold();
+                lease.soldPerTick = sold - lease.lastSold;
+                lease.idleTicks = lease.soldPerTick == 0 ? lease.idleTicks + 1 : 0;
+                lease.lastSold = sold;
+                if (lease.idleTicks >= IDLE_TICKS || productStockPort.findSalesStatus(productId) != SalesStatus.SALES) {
+                    demote(productId, lease);
+                } else {
+                    replenish(productId, lease, 0);
+                }
+            } catch (RuntimeException e) {
+                log.warn("failed to reconcile stock of product {}", productId, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    void releaseAll() {
+        leases.forEach(this::demote);
+    }
+
+    /**
+     * 임대가 leaseSize 의 절반 아래로 줄었으면 DB 재고에서 다시 떼어 오고, 풀어 둔 재고를 정산 주기 한 번 분량까지 채운다.
+     * demand 가 있으면 풀어 둔 재고가 그보다 적을 때 적어도 demand 만큼은 푼다.
+     * DB 재고 차감과 임대 행 갱신은 한 트랜잭션에서 함께 반영된다.
+     */
+    private void replenish(Long productId, Lease lease, int demand) {
+        synchronized (lease) {
+            if (leases.get(productId) != lease) {
+                return;
+            }
+            long available = lease.stock.available();
+            if (demand > 0 && available >= demand) {
+                return;
+            }
+            int reserve = lease.reserve;
+            int wanted = reserve < leaseSize / 2 ? leaseSize - reserve : 0;
+            long window = Math.min(leaseSize, Math.max(hotThreshold, 2 * lease.soldPerTick));
+            int toRelease = (int) Math.max(demand, window - available);
+            if (wanted == 0 && (toRelease == 0 || reserve == 0)) {
+                return;
+            }
+            Integer taken = transactionTemplate.execute(tx -> {
+                int leased = wanted > 0 ? take(productId, wanted) : 0;
+                int released = Math.min(reserve + leased, toRelease);
+                if (leased > 0 || released > 0) {
+                    productStockLeasePort.saveLease(instanceId, productId, reserve + leased - released);
+                }
+                return leased;
+            });
+            int leased = taken == null ? 0 : taken;
+            int released = Math.min(reserve + leased, toRelease);
+            lease.reserve = reserve + leased - released;
+            if (released > 0) {
+                lease.stock.add(released);
+            }
+        }
+    }
+
+    private int take(Long productId, int wanted) {
+        if (productStockPort.decreaseQuantity(productId, wanted)) {
+            return wanted;
+        }
+        int available = Math.min(productStockPort.findQuantity(productId), wanted);
+        return available > 0 && productStockPort.decreaseQuantity(productId, available) ? available : 0;
+    }
+
+    private void demote(Long productId, Lease lease) {
+        synchronized (lease) {
+            if (!leases.remove(productId, lease)) {
+                return;
+            }
+            long remaining = lease.stock.close() + lease.reserve;
+            lease.reserve = 0;
+            transactionTemplate.executeWithoutResult(tx -> {
+                if (remaining > 0) {
+                    productStockPort.increaseQuantity(productId, (int) remaining);
+                }
+                productStockLeasePort.deleteLease(instanceId, productId);
+            });
+        }
+    }
+
+    private static final class Lease {
+
+        private final StripedStock stock;
+        private volatile int reserve;
+        private long lastSold;
+        private volatile long soldPerTick;
+        private int idleTicks;
+
+        private Lease(StripedStock stock) {
+            this.stock = stock;
+        }
+    }
+}
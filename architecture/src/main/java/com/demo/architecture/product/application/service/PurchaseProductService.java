@@ -0,0 +1,42 @@
+package com.demo.architecture.product.application.service;
+
+import com.demo.architecture.product.application.command.PurchaseProductCommand;
+import com.demo.architecture.product.application.port.in.PurchaseProductUseCase;
+import com.demo.architecture.product.application.port.out.ProductStockPort;
+import com.demo.architecture.product.domain.SalesStatus;
+import com.demo.architecture.product.exception.NotEnoughQuantityException;
+import com.demo.architecture.product.exception.ProductNotOnSaleException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 인기 상품은 메모리에 떼어 둔 재고에서 차감하고, 그 밖의 상품은 판매 상태와 재고 조건을 건 UPDATE 한 번으로 차감한다.
+ * 메모리 경로는 트랜잭션을 열지 않는다. 메모리 임대는 판매 중인 상품에만 있으므로 두 경로 모두 판매 중인 상품만 판다.
+ */
+@Service
+@RequiredArgsConstructor
+class PurchaseProductService implements PurchaseProductUseCase {
+
+    private final HotProductStock hotProductStock;
+    private final ProductStockPort productStockPort;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void purchase(PurchaseProductCommand cmd) {
+        if (cmd.getQuantity() <= 0) {
+            throw new IllegalArgumentException("purchase quantity must be positive: " + cmd.getQuantity());
+        }
+        if (hotProductStock.tryPurchase(cmd.getProductId(), cmd.getQuantity())) {
+            return;
+        }
+
+        Boolean decreased = transactionTemplate.execute(tx -> productStockPort.decreaseQuantity(cmd.getProductId(), cmd.getQuantity()));
+        if (!Boolean.TRUE.equals(decreased)) {
+            if (productStockPort.findSalesStatus(cmd.getProductId()) != SalesStatus.SALES) {
+                throw new ProductNotOnSaleException(cmd.getProductId() + "번 상품은 판매 중이 아닙니다.");
+            }
+            throw new NotEnoughQuantityException(cmd.getProductId() + "번 상품의 재고가 " + cmd.getQuantity() + "개보다 적습니다.");
+        }
+    }
+}
@@ -1,26 +1,91 @@
 package com.demo.architecture.product.application.service;
 
+import com.demo.architecture.product.application.command.BulkSalesProductCommand;
 import com.demo.architecture.product.application.command.StartSalesProductCommand;
 import com.demo.architecture.product.application.port.in.SalesProductUseCase;
 import com.demo.architecture.product.application.port.out.LoadProductPort;
 import com.demo.architecture.product.application.port.out.SaveProductPort;
+import com.demo.architecture.product.application.port.out.UpdateProductSalesStatusPort;
+import com.demo.architecture.product.application.result.BulkSalesProductResult;
 import com.demo.architecture.product.domain.Product;
+import com.demo.architecture.product.domain.SalesStatus;
+import com.demo.architecture.product.exception.ProductSalesStatusConflictException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 class SalesProductService implements SalesProductUseCase {
 
+    static final int BULK_CHUNK_SIZE = 1000;
+
     private final LoadProductPort loadProductPort;
     private final SaveProductPort saveProductPort;
+    private final UpdateProductSalesStatusPort updateProductSalesStatusPort;
+    private final HotProductStock hotProductStock;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * 읽은 시점의 버전을 조건으로 판매 상태만 UPDATE 한다. 동시에 다른 요청이 먼저 상품을 바꿨다면 충돌로 실패한다.
+     * 이미 판매 중이면 아무것도 쓰지 않는다.
+     */
     @Override
     public void startSalesProduct(StartSalesProductCommand cmd) {
         Product product = loadProductPort.findById(cmd.getProductId());
+        SalesStatus current = product.getProductSalesInfo().getStatus();
         product.startSales();
-        saveProductPort.save(product);
+        if (current == product.getProductSalesInfo().getStatus()) {
+            return;
+        }
+        try {
+            saveProductPort.save(product);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ProductSalesStatusConflictException(
+                    cmd.getProductId() + "번 상품의 판매 상태가 " + current + " 에서 이미 바뀌었습니다.", e);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkSalesProductResult startSales(BulkSalesProductCommand cmd) {
+        return changeSalesStatus(cmd.getProductIds(), SalesStatus.SALES);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkSalesProductResult stopSales(BulkSalesProductCommand cmd) {
+        return changeSalesStatus(cmd.getProductIds(), SalesStatus.SALES_DISCONTINUED);
+    }
+
+    /**
+     * BULK_CHUNK_SIZE 개씩 나눠 묶음마다 UPDATE 한 번을 실행하고 바로 커밋한다.
+     * 중간에 실패하면 이미 커밋된 묶음은 유지된다. 판매를 중지한 묶음은 커밋 뒤 메모리 임대를 바로 내려보낸다.
+     */
+    private BulkSalesProductResult changeSalesStatus(List<Long> productIds, SalesStatus status) {
+        List<Long> distinctIds = productIds.stream().distinct().collect(Collectors.toList());
+        int updated = 0;
+        int chunks = 0;
+        for (int from = 0; from < distinctIds.size(); from += BULK_CHUNK_SIZE) {
+            int to = Math.min(from + BULK_CHUNK_SIZE, distinctIds.size());
+            List<Long> chunk = distinctIds.subList(from, to);
+            Integer chunkUpdated = transactionTemplate.execute(tx -> updateProductSalesStatusPort.updateSalesStatus(chunk, status));
+            updated += chunkUpdated == null ? 0 : chunkUpdated;
+            if (status != SalesStatus.SALES) {
+                hotProductStock.release(chunk);
+            }
+            chunks++;
+            log.info("[{}] {}/{} products processed, {} updated", status, to, distinctIds.size(), updated);
+        }
+        return new BulkSalesProductResult(distinctIds.size(), updated, chunks);
     }
 }
@@ -0,0 +1,113 @@
+package com.demo.architecture.product.application.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 상품에 대해 DB 에서 미리 떼어 온 재고를 여러 칸에 나눠 담은 카운터.
+ * 스레드마다 다른 칸에서 CAS 로 차감하므로 인기 상품 하나에 요청이 몰려도 한 변수를 두고 경합하지 않는다.
+ * 칸 사이 false sharing 을 피하려고 칸마다 캐시 라인 하나(long 8개)를 쓴다.
+ */
+class StripedStock {
+
+    private static final int PADDING = 8;
+
+    private final int stripes;
+    private final AtomicLongArray counts;
+    private final LongAdder sold = new LongAdder();
+    private boolean closed;
+
+    StripedStock(int stripes) {
+        this.stripes = stripes;
+        this.counts = new AtomicLongArray(stripes * PADDING);
+    }
+
+    /**
+     * quantity 만큼 차감한다. 한 칸에 충분하지 않으면 여러 칸에서 모으고, 모두 합쳐도 모자라면 되돌려 놓고 false 를 돌려준다.
+     */
+    boolean tryTake(int quantity) {
+        int start = (int) (Thread.currentThread().getId() % stripes);
+        for (int i = 0; i < stripes; i++) {
+            int index = ((start + i) % stripes) * PADDING;
+            long count = counts.get(index);
+            while (count >= quantity) {
+                if (counts.compareAndSet(index, count, count - quantity)) {
+                    sold.add(quantity);
+                    return true;
+                }
+                count = counts.get(index);
+            }
+        }
+        return gather(start, quantity);
+    }
+
+    private boolean gather(int start, int quantity) {
+        long[] taken = new long[stripes];
+        long remaining = quantity;
+        for (int i = 0; i < stripes && remaining > 0; i++) {
+            int stripe = (start + i) % stripes;
+            int index = stripe * PADDING;
+            long count = counts.get(index);
+            while (count > 0) {
+                long take = Math.min(count, remaining);
+                if (counts.compareAndSet(index, count, count - take)) {
+                    taken[stripe] = take;
+                    remaining -= take;
+                    break;
+                }
+                count = counts.get(index);
+            }
+        }
+        if (remaining == 0) {
+            sold.add(quantity);
+            return true;
+        }
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            if (taken[stripe] > 0) {
+                counts.getAndAdd(stripe * PADDING, taken[stripe]);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 떼어 온 재고를 칸마다 고르게 나눠 담는다. 이미 닫힌 카운터면 담지 않고 false 를 돌려준다.
+     */
+    synchronized boolean add(int quantity) {
+        if (closed) {
+            return false;
+        }
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            int share = quantity / stripes + (stripe < quantity % stripes ? 1 : 0);
+            if (share > 0) {
+                counts.getAndAdd(stripe * PADDING, share);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 카운터를 닫고 남은 재고를 모두 꺼낸다. 이후 tryTake 는 항상 실패한다.
+     * 닫는 순간 gather 가 되돌리던 재고는 꺼내지 못할 수 있으며, 이 경우 덜 팔릴 뿐 초과 판매되지는 않는다.
+     */
+    synchronized long close() {
+        closed = true;
+        long drained = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            drained += counts.getAndSet(stripe * PADDING, 0);
+        }
+        return drained;
+    }
+
+    long available() {
+        long available = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            available += counts.get(stripe * PADDING);
+        }
+        return available;
+    }
+
+    long sold() {
+        return sold.sum();
+    }
+}
@@ -10,13 +10,15 @@ public class Product {
     private ProductInfo productInfo;
     private ProductSalesInfo productSalesInfo;
     private ProductMetaInfo productMetaInfo;
+    private Long version;
 
     @Builder(builderMethodName = "withId")
-    public Product(Long productId, ProductInfo productInfo, ProductSalesInfo productSalesInfo, ProductMetaInfo productMetaInfo) {
+    public Product(Long productId, ProductInfo productInfo, ProductSalesInfo productSalesInfo, ProductMetaInfo productMetaInfo, Long version) {
         this.productId = productId;
         this.productInfo = productInfo;
         this.productSalesInfo = productSalesInfo;
         this.productMetaInfo = productMetaInfo;
+        this.version = version;
     }
 
     public void startSales() {
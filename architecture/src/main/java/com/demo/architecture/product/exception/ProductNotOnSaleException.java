@@ -0,0 +1,19 @@
+package com.demo.architecture.product.exception;
+
+public class ProductNotOnSaleException extends RuntimeException {
+
+    public ProductNotOnSaleException() {
+    }
+
+    public ProductNotOnSaleException(String message) {
+        super(message);
+    }
+
+    public ProductNotOnSaleException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public ProductNotOnSaleException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,19 @@
+package com.demo.architecture.product.exception;
+
+public class ProductSalesStatusConflictException extends RuntimeException {
+
+    public ProductSalesStatusConflictException() {
+    }
+
+    public ProductSalesStatusConflictException(String message) {
+        super(message);
+    }
+
+    public ProductSalesStatusConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public ProductSalesStatusConflictException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,190 @@
+package com.demo.architecture.product.adapter.out.cache;
+
+import com.demo.architecture.product.application.port.out.LoadProductPort;
+import com.demo.architecture.product.application.result.ProductCacheStatsResult;
+import com.demo.architecture.product.domain.Product;
+import com.demo.architecture.product.domain.ProductInfo;
+import com.demo.architecture.product.domain.ProductMetaInfo;
+import com.demo.architecture.product.domain.ProductSalesInfo;
+import com.demo.architecture.product.domain.SalesStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CachingProductAdapterTest {
+
+    private static final int THREADS = 16;
+
+    @Test
+    void loadOnceForConcurrentMisses() throws Exception {
+        // given
+        BlockingLoader loader = new BlockingLoader();
+        CachingProductAdapter adapter = adapterOf(loader, 100, Duration.ofMinutes(1));
+        Map<Thread, Product> results = new ConcurrentHashMap<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            threads.add(new Thread(() -> results.put(Thread.currentThread(), adapter.findById(1L))));
+        }
+
+        // when
+        threads.forEach(Thread::start);
+        awaitWaiting(threads);
+        loader.release.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        // then
+        Assertions.assertThat(loader.calls.get()).isEqualTo(1);
+        Assertions.assertThat(adapter.getStats().getLoads()).isEqualTo(1);
+        Assertions.assertThat(adapter.getStats().getMisses()).isEqualTo(THREADS);
+        Assertions.assertThat(results).hasSize(THREADS);
+        Assertions.assertThat(results.values().stream().allMatch(product -> product.getProductId() == 1L)).isTrue();
+    }
+
+    @Test
+    void skipCachingLoadOverlappingSave() throws Exception {
+        // given
+        BlockingLoader loader = new BlockingLoader();
+        CachingProductAdapter adapter = adapterOf(loader, 100, Duration.ofMinutes(1));
+        Thread reader = new Thread(() -> adapter.findById(1L));
+        reader.start();
+        awaitWaiting(List.of(reader));
+
+        // when
+        adapter.save(productOf(1L));
+        loader.release.countDown();
+        reader.join(TimeUnit.SECONDS.toMillis(10));
+        adapter.findById(1L);
+
+        // then
+        Assertions.assertThat(loader.calls.get()).isEqualTo(2);
+        Assertions.assertThat(adapter.getStats().getHits()).isZero();
+    }
+
+    @Test
+    void expireAfterTtl() {
+        // given
+        BlockingLoader loader = new BlockingLoader();
+        loader.release.countDown();
+        CachingProductAdapter adapter = adapterOf(loader, 100, Duration.ZERO);
+
+        // when
+        adapter.findById(1L);
+        adapter.findById(1L);
+
+        // then
+        Assertions.assertThat(loader.calls.get()).isEqualTo(2);
+        Assertions.assertThat(adapter.getStats().getExpirations()).isEqualTo(1);
+        Assertions.assertThat(adapter.getStats().getHits()).isZero();
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        // given
+        BlockingLoader loader = new BlockingLoader();
+        loader.release.countDown();
+        CachingProductAdapter adapter = adapterOf(loader, 2, Duration.ofMinutes(1));
+        adapter.findById(1L);
+        adapter.findById(2L);
+        adapter.findById(1L);
+
+        // when
+        adapter.findById(3L);
+
+        // then
+        Assertions.assertThat(adapter.size()).isEqualTo(2);
+        Assertions.assertThat(adapter.getStats().getEvictions()).isEqualTo(1);
+        adapter.findById(1L);
+        Assertions.assertThat(loader.calls.get()).isEqualTo(3);
+        adapter.findById(2L);
+        Assertions.assertThat(loader.calls.get()).isEqualTo(4);
+        Assertions.assertThat(adapter.getStats().getHits()).isEqualTo(2);
+    }
+
+    @Test
+    void boundSizeAcrossSegments() {
+        // given
+        BlockingLoader loader = new BlockingLoader();
+        loader.release.countDown();
+        CachingProductAdapter adapter = adapterOf(loader, 10, Duration.ofMinutes(1), 4);
+
+        // when
+        for (long productId = 1; productId <= 100; productId++) {
+            adapter.findById(productId);
+        }
+        adapter.findById(100L);
+
+        // then
+        ProductCacheStatsResult stats = adapter.loadProductCacheStats();
+        Assertions.assertThat(stats.getSize()).isEqualTo(10);
+        Assertions.assertThat(stats.getEvictions()).isEqualTo(90);
+        Assertions.assertThat(stats.getLoads()).isEqualTo(100);
+        Assertions.assertThat(stats.getHits()).isEqualTo(1);
+    }
+
+    private static CachingProductAdapter adapterOf(LoadProductPort loader, int maximumSize, Duration ttl) {
+        return adapterOf(loader, maximumSize, ttl, 1);
+    }
+
+    private static CachingProductAdapter adapterOf(LoadProductPort loader, int maximumSize, Duration ttl, int segments) {
+        return new CachingProductAdapter(loader, product -> { }, (productIds, status) -> productIds.size(), null,
+                maximumSize, ttl, segments);
+    }
+
+    /**
+     * 모든 스레드가 조회 결과를 기다리며 멈출 때까지 기다린다.
+     */
+    private static void awaitWaiting(List<Thread> threads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (threads.stream().anyMatch(thread -> thread.getState() != Thread.State.WAITING)) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new AssertionError("threads did not block on the load");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static Product productOf(Long productId) {
+        return Product.withId()
+                .productId(productId)
+                .productInfo(ProductInfo.builder()
+                        .productName("product" + productId)
+                        .seller("농심")
+                        .build())
+                .productMetaInfo(ProductMetaInfo.builder()
+                        .price(1000)
+                        .quantity(999)
+                        .build())
+                .productSalesInfo(ProductSalesInfo.withStatus()
+                        .status(SalesStatus.SALES)
+                        .build())
+                .build();
+    }
+
+    private static final class BlockingLoader implements LoadProductPort {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public Product findById(Long productId) {
+            calls.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return productOf(productId);
+        }
+    }
+}
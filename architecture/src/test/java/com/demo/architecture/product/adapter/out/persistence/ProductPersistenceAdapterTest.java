@@ -0,0 +1,80 @@
+package com.demo.architecture.product.adapter.out.persistence;
+
+import com.demo.architecture.product.domain.Product;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.demo.architecture.product.adapter.out.persistence.RecordingStatementInspector")
+class ProductPersistenceAdapterTest {
+
+    @Autowired
+    private ProductPersistenceAdapter productPersistenceAdapter;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void saveUpdatesChangedColumnsOnly() {
+        // given
+        ProductJpaEntity product = productJpaRepository.save(ProductJpaEntity.builder()
+                .productName("product")
+                .price(1000)
+                .quantity(999)
+                .status(SalesStatusJpa.WAITING)
+                .seller("농심")
+                .build());
+        RecordingStatementInspector.clear();
+
+        // when
+        transactionTemplate.executeWithoutResult(tx -> {
+            Product loaded = productPersistenceAdapter.findById(product.getId());
+            loaded.startSales();
+            productPersistenceAdapter.save(loaded);
+        });
+
+        // then
+        List<String> selects = RecordingStatementInspector.statements("select");
+        List<String> updates = RecordingStatementInspector.statements("update");
+        Assertions.assertThat(selects).hasSize(1);
+        Assertions.assertThat(updates).hasSize(1);
+        Assertions.assertThat(updates.get(0))
+                .contains("product_sales_status", "product_version")
+                .doesNotContain("product_name", "product_seller", "product_price", "product_quantity");
+        ProductJpaEntity saved = productJpaRepository.findById(product.getId()).orElseThrow();
+        Assertions.assertThat(saved.getStatus()).isEqualTo(SalesStatusJpa.SALES);
+    }
+
+    @Test
+    void saveRejectsStaleProduct() {
+        // given
+        ProductJpaEntity product = productJpaRepository.save(ProductJpaEntity.builder()
+                .productName("product")
+                .price(1000)
+                .quantity(999)
+                .status(SalesStatusJpa.SALES)
+                .seller("농심")
+                .build());
+        Product stale = productPersistenceAdapter.findById(product.getId());
+        productPersistenceAdapter.decreaseQuantity(product.getId(), 10);
+
+        // when
+        stale.stopSales();
+
+        // then
+        Assertions.assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(tx -> productPersistenceAdapter.save(stale)))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        ProductJpaEntity saved = productJpaRepository.findById(product.getId()).orElseThrow();
+        Assertions.assertThat(saved.getQuantity()).isEqualTo(989);
+        Assertions.assertThat(saved.getStatus()).isEqualTo(SalesStatusJpa.SALES);
+    }
+}
@@ -0,0 +1,73 @@
+package com.demo.architecture.product.adapter.out.persistence;
+
+import com.demo.architecture.product.application.command.StartSalesProductCommand;
+import com.demo.architecture.product.application.port.in.SalesProductUseCase;
+import com.demo.architecture.product.exception.ProductSalesStatusConflictException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootTest
+class ProductSalesStatusConcurrencyTest {
+
+    private static final int REQUESTS = 32;
+
+    @Autowired
+    private SalesProductUseCase salesProductUseCase;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Test
+    void startSalesConcurrently() throws Exception {
+        // given
+        ProductJpaEntity product = productJpaRepository.save(ProductJpaEntity.builder()
+                .productName("product")
+                .price(1000)
+                .quantity(999)
+                .status(SalesStatusJpa.WAITING)
+                .seller("농심")
+                .build());
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    salesProductUseCase.startSalesProduct(StartSalesProductCommand.builder()
+                            .productId(product.getId())
+                            .build());
+                } catch (ProductSalesStatusConflictException e) {
+                    conflicts.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        ProductJpaEntity saved = productJpaRepository.findById(product.getId()).orElseThrow();
+        Assertions.assertThat(product.getVersion()).isZero();
+        Assertions.assertThat(saved.getStatus()).isEqualTo(SalesStatusJpa.SALES);
+        Assertions.assertThat(saved.getVersion()).isEqualTo(1L);
+        Assertions.assertThat(conflicts.get()).isLessThan(REQUESTS);
+    }
+}
@@ -0,0 +1,129 @@
+package com.demo.architecture.product.adapter.out.persistence;
+
+import com.demo.architecture.product.application.command.PurchaseProductCommand;
+import com.demo.architecture.product.application.port.in.PurchaseProductUseCase;
+import com.demo.architecture.product.exception.NotEnoughQuantityException;
+import com.demo.architecture.product.exception.ProductNotOnSaleException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인기 상품 하나에 구매를 몰아 초과 판매가 없는지 확인한다. 처리량은 jmh 의 PurchaseProductBenchmark 로 잰다.
+ * 첫 정산 주기부터 인기 상품으로 올라가도록 hot-threshold 를 1 로 둔다.
+ */
+@SpringBootTest(properties = {
+        "product.stock.hot-threshold=1",
+        "product.stock.reconcile-interval-ms=10",
+        "product.stock.lease-size=1000"})
+class PurchaseProductConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int STOCK = 100_000;
+
+    @Autowired
+    private PurchaseProductUseCase purchaseProductUseCase;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Test
+    void purchaseHotProduct() throws Exception {
+        // given
+        ProductJpaEntity product = productJpaRepository.save(ProductJpaEntity.builder()
+                .productName("product")
+                .price(1000)
+                .quantity(STOCK)
+                .status(SalesStatusJpa.SALES)
+                .seller("농심")
+                .build());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong sold = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (true) {
+                    try {
+                        purchaseProductUseCase.purchase(PurchaseProductCommand.builder()
+                                .productId(product.getId())
+                                .quantity(1)
+                                .build());
+                        sold.incrementAndGet();
+                    } catch (NotEnoughQuantityException e) {
+                        return null;
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        Assertions.assertThat(sold.get()).isPositive().isLessThanOrEqualTo(STOCK);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (sold.get() + quantityOf(product.getId()) != STOCK && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        Assertions.assertThat(sold.get() + quantityOf(product.getId())).isEqualTo(STOCK);
+    }
+
+    @Test
+    void rejectPurchaseOverStock() {
+        // given
+        ProductJpaEntity product = productJpaRepository.save(ProductJpaEntity.builder()
+                .productName("product")
+                .price(1000)
+                .quantity(5)
+                .status(SalesStatusJpa.SALES)
+                .seller("농심")
+                .build());
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> purchaseProductUseCase.purchase(PurchaseProductCommand.builder()
+                        .productId(product.getId())
+                        .quantity(10)
+                        .build()))
+                .isInstanceOf(NotEnoughQuantityException.class);
+    }
+
+    @Test
+    void rejectPurchaseNotOnSale() {
+        // given
+        ProductJpaEntity product = productJpaRepository.save(ProductJpaEntity.builder()
+                .productName("product")
+                .price(1000)
+                .quantity(5)
+                .status(SalesStatusJpa.WAITING)
+                .seller("농심")
+                .build());
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> purchaseProductUseCase.purchase(PurchaseProductCommand.builder()
+                        .productId(product.getId())
+                        .quantity(1)
+                        .build()))
+                .isInstanceOf(ProductNotOnSaleException.class);
+        Assertions.assertThat(quantityOf(product.getId())).isEqualTo(5);
+    }
+
+    private int quantityOf(Long productId) {
+        return productJpaRepository.findQuantityById(productId).orElseThrow();
+    }
+}
@@ -0,0 +1,33 @@
+package com.demo.architecture.product.adapter.out.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 그대로 기록한다. Hibernate 가 직접 생성하므로 기록은 static 으로 둔다.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    static void clear() {
+        STATEMENTS.clear();
+    }
+
+    static List<String> statements(String keyword) {
+        return STATEMENTS.stream()
+                .map(sql -> sql.replaceAll("/\\*.*?\\*/", "").trim().toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.startsWith(keyword))
+                .collect(Collectors.toList());
+    }
+}
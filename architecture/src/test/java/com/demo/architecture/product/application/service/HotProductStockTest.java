@@ -0,0 +1,173 @@
+package com.demo.architecture.product.application.service;
+
+import com.demo.architecture.product.domain.SalesStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class HotProductStockTest {
+
+    private static final String INSTANCE_ID = "instance-a";
+    private static final Long PRODUCT_ID = 1L;
+    private static final int LEASE_SIZE = 1000;
+    private static final int HOT_THRESHOLD = 10;
+
+    @Test
+    void reclaimLeaseOnStartup() {
+        // given
+        InMemoryProductStock store = new InMemoryProductStock();
+        store.add(PRODUCT_ID, 100, SalesStatus.SALES);
+        store.saveLease(INSTANCE_ID, PRODUCT_ID, 300);
+        store.saveLease("instance-b", PRODUCT_ID, 50);
+
+        // when
+        hotProductStockOf(store).reclaim();
+
+        // then
+        Assertions.assertThat(store.findQuantity(PRODUCT_ID)).isEqualTo(400);
+        Assertions.assertThat(store.findLeases(INSTANCE_ID)).isEmpty();
+        Assertions.assertThat(store.findLeases("instance-b").get(PRODUCT_ID)).isEqualTo(50);
+    }
+
+    @Test
+    void keepUnreleasedStockInLease() {
+        // given
+        InMemoryProductStock store = new InMemoryProductStock();
+        store.add(PRODUCT_ID, 5000, SalesStatus.SALES);
+        HotProductStock hotProductStock = hotProductStockOf(store);
+
+        // when
+        hotProductStock.promote(PRODUCT_ID);
+
+        // then
+        Assertions.assertThat(store.findQuantity(PRODUCT_ID)).isEqualTo(5000 - LEASE_SIZE);
+        Assertions.assertThat(store.findLeases(INSTANCE_ID).get(PRODUCT_ID)).isEqualTo(LEASE_SIZE - HOT_THRESHOLD);
+    }
+
+    @Test
+    void releaseFromLeaseWhenReleasedStockRunsOut() {
+        // given
+        InMemoryProductStock store = new InMemoryProductStock();
+        store.add(PRODUCT_ID, 5000, SalesStatus.SALES);
+        HotProductStock hotProductStock = hotProductStockOf(store);
+        hotProductStock.promote(PRODUCT_ID);
+        for (int i = 0; i < HOT_THRESHOLD; i++) {
+            Assertions.assertThat(hotProductStock.tryPurchase(PRODUCT_ID, 1)).isTrue();
+        }
+
+        // when
+        boolean purchased = hotProductStock.tryPurchase(PRODUCT_ID, 1);
+
+        // then
+        Assertions.assertThat(purchased).isTrue();
+        Assertions.assertThat(store.findQuantity(PRODUCT_ID)).isEqualTo(5000 - LEASE_SIZE);
+        Assertions.assertThat(store.findLeases(INSTANCE_ID).get(PRODUCT_ID)).isEqualTo(LEASE_SIZE - 2 * HOT_THRESHOLD);
+    }
+
+    @Test
+    void releaseMoreWhenSellingFaster() {
+        // given
+        InMemoryProductStock store = new InMemoryProductStock();
+        store.add(PRODUCT_ID, 5000, SalesStatus.SALES);
+        HotProductStock hotProductStock = hotProductStockOf(store);
+        hotProductStock.promote(PRODUCT_ID);
+        for (int i = 0; i < HOT_THRESHOLD; i++) {
+            hotProductStock.tryPurchase(PRODUCT_ID, 1);
+        }
+
+        // when
+        hotProductStock.reconcile();
+
+        // then
+        Assertions.assertThat(store.findQuantity(PRODUCT_ID)).isEqualTo(5000 - LEASE_SIZE);
+        Assertions.assertThat(store.findLeases(INSTANCE_ID).get(PRODUCT_ID)).isEqualTo(LEASE_SIZE - 3 * HOT_THRESHOLD);
+    }
+
+    @Test
+    void demoteWhenNotOnSale() {
+        // given
+        InMemoryProductStock store = new InMemoryProductStock();
+        store.add(PRODUCT_ID, 5000, SalesStatus.SALES);
+        HotProductStock hotProductStock = hotProductStockOf(store);
+        hotProductStock.promote(PRODUCT_ID);
+        hotProductStock.tryPurchase(PRODUCT_ID, 3);
+
+        // when
+        store.changeStatus(PRODUCT_ID, SalesStatus.SALES_DISCONTINUED);
+        hotProductStock.reconcile();
+
+        // then
+        Assertions.assertThat(hotProductStock.tryPurchase(PRODUCT_ID, 1)).isFalse();
+        Assertions.assertThat(store.findQuantity(PRODUCT_ID)).isEqualTo(5000 - 3);
+        Assertions.assertThat(store.findLeases(INSTANCE_ID)).isEmpty();
+    }
+
+    @Test
+    void leaseNothingWhenNotOnSale() {
+        // given
+        InMemoryProductStock store = new InMemoryProductStock();
+        store.add(PRODUCT_ID, 5000, SalesStatus.WAITING);
+        HotProductStock hotProductStock = hotProductStockOf(store);
+
+        // when
+        hotProductStock.promote(PRODUCT_ID);
+
+        // then
+        Assertions.assertThat(hotProductStock.tryPurchase(PRODUCT_ID, 1)).isFalse();
+        Assertions.assertThat(store.findQuantity(PRODUCT_ID)).isEqualTo(5000);
+    }
+
+    @Test
+    void promoteOnlyExistingProductsOnSale() {
+        // given
+        Long missingId = 0L;
+        Long waitingId = 2L;
+        InMemoryProductStock store = new InMemoryProductStock();
+        store.add(PRODUCT_ID, 5000, SalesStatus.SALES);
+        store.add(waitingId, 5000, SalesStatus.WAITING);
+        HotProductStock hotProductStock = hotProductStockOf(store);
+        for (int i = 0; i < HOT_THRESHOLD; i++) {
+            hotProductStock.tryPurchase(missingId, 1);
+            hotProductStock.tryPurchase(waitingId, 1);
+            hotProductStock.tryPurchase(PRODUCT_ID, 1);
+        }
+
+        // when
+        hotProductStock.reconcile();
+
+        // then
+        Assertions.assertThat(hotProductStock.tryPurchase(PRODUCT_ID, 1)).isTrue();
+        Assertions.assertThat(hotProductStock.tryPurchase(missingId, 1)).isFalse();
+        Assertions.assertThat(hotProductStock.tryPurchase(waitingId, 1)).isFalse();
+        Assertions.assertThat(store.findQuantity(waitingId)).isEqualTo(5000);
+        Assertions.assertThat(store.findLeases(INSTANCE_ID)).containsOnlyKeys(PRODUCT_ID);
+    }
+
+    static HotProductStock hotProductStockOf(InMemoryProductStock store) {
+        return new HotProductStock(store, store, new TransactionTemplate(new NoOpTransactionManager()),
+                INSTANCE_ID, LEASE_SIZE, HOT_THRESHOLD);
+    }
+
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.demo.architecture.product.application.service;
+
+import com.demo.architecture.product.application.port.out.ProductStockLeasePort;
+import com.demo.architecture.product.application.port.out.ProductStockPort;
+import com.demo.architecture.product.domain.SalesStatus;
+import com.demo.architecture.product.exception.NoProductException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 상품 재고, 판매 상태, 임대 행을 메모리에 두는 테스트용 저장소.
+ */
+class InMemoryProductStock implements ProductStockPort, ProductStockLeasePort {
+
+    private final Map<Long, Integer> quantities = new HashMap<>();
+    private final Map<Long, SalesStatus> statuses = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> leases = new HashMap<>();
+
+    synchronized void add(Long productId, int quantity, SalesStatus status) {
+        quantities.put(productId, quantity);
+        statuses.put(productId, status);
+    }
+
+    synchronized void changeStatus(Long productId, SalesStatus status) {
+        statuses.put(productId, status);
+    }
+
+    @Override
+    public synchronized boolean decreaseQuantity(Long productId, int quantity) {
+        Integer current = quantities.get(productId);
+        if (current == null || statuses.get(productId) != SalesStatus.SALES || current < quantity) {
+            return false;
+        }
+        quantities.put(productId, current - quantity);
+        return true;
+    }
+
+    @Override
+    public synchronized void increaseQuantity(Long productId, int quantity) {
+        if (!quantities.containsKey(productId)) {
+            throw new NoProductException();
+        }
+        quantities.merge(productId, quantity, Integer::sum);
+    }
+
+    @Override
+    public synchronized int findQuantity(Long productId) {
+        Integer quantity = quantities.get(productId);
+        if (quantity == null) {
+            throw new NoProductException();
+        }
+        return quantity;
+    }
+
+    @Override
+    public synchronized SalesStatus findSalesStatus(Long productId) {
+        SalesStatus status = statuses.get(productId);
+        if (status == null) {
+            throw new NoProductException();
+        }
+        return status;
+    }
+
+    @Override
+    public synchronized void saveLease(String instanceId, Long productId, int quantity) {
+        leases.computeIfAbsent(instanceId, id -> new HashMap<>()).put(productId, quantity);
+    }
+
+    @Override
+    public synchronized void deleteLease(String instanceId, Long productId) {
+        leases.getOrDefault(instanceId, new HashMap<>()).remove(productId);
+    }
+
+    @Override
+    public synchronized Map<Long, Integer> findLeases(String instanceId) {
+        return new HashMap<>(leases.getOrDefault(instanceId, Map.of()));
+    }
+}
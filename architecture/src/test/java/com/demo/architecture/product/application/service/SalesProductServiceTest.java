@@ -0,0 +1,176 @@
+package com.demo.architecture.product.application.service;
+
+import com.demo.architecture.product.application.command.BulkSalesProductCommand;
+import com.demo.architecture.product.application.port.out.UpdateProductSalesStatusPort;
+import com.demo.architecture.product.application.result.BulkSalesProductResult;
+import com.demo.architecture.product.domain.SalesStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+class SalesProductServiceTest {
+
+    @Test
+    void updateInChunks() {
+        // given
+        ProductStatusStore store = new ProductStatusStore(2400, -1);
+        SalesProductService service = serviceOf(store);
+        List<Long> productIds = ids(1, 2500);
+        productIds.addAll(List.of(1L, 2L));
+
+        // when
+        BulkSalesProductResult result = service.startSales(BulkSalesProductCommand.builder()
+                .productIds(productIds)
+                .build());
+
+        // then
+        Assertions.assertThat(result.getRequested()).isEqualTo(2500);
+        Assertions.assertThat(result.getUpdated()).isEqualTo(2400);
+        Assertions.assertThat(result.getChunks()).isEqualTo(3);
+        Assertions.assertThat(store.chunkSizes).containsExactly(1000, 1000, 500);
+        Assertions.assertThat(store.commits).isEqualTo(3);
+        Assertions.assertThat(store.committed).hasSize(2400);
+    }
+
+    @Test
+    void keepCommittedChunksOnFailure() {
+        // given
+        ProductStatusStore store = new ProductStatusStore(3000, 1);
+        SalesProductService service = serviceOf(store);
+        BulkSalesProductCommand cmd = BulkSalesProductCommand.builder()
+                .productIds(ids(1, 3000))
+                .build();
+
+        // when
+        Assertions.assertThatThrownBy(() -> service.stopSales(cmd))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        Assertions.assertThat(store.commits).isEqualTo(1);
+        Assertions.assertThat(store.rollbacks).isEqualTo(1);
+        Assertions.assertThat(store.committed).hasSize(SalesProductService.BULK_CHUNK_SIZE);
+        Assertions.assertThat(store.committed.get(1L)).isEqualTo(SalesStatus.SALES_DISCONTINUED);
+        Assertions.assertThat(store.committed.get(1001L)).isNull();
+    }
+
+    @Test
+    void rejectEmptyProductIds() {
+        Assertions.assertThatThrownBy(() -> BulkSalesProductCommand.builder().build())
+                .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> BulkSalesProductCommand.builder().productIds(List.of()).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> BulkSalesProductCommand.builder().productIds(Arrays.asList(1L, null)).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void releaseLeasesOfStoppedProducts() {
+        // given
+        ProductStatusStore store = new ProductStatusStore(10, -1);
+        InMemoryProductStock stock = new InMemoryProductStock();
+        stock.add(1L, 5000, SalesStatus.SALES);
+        HotProductStock hotProductStock = HotProductStockTest.hotProductStockOf(stock);
+        hotProductStock.promote(1L);
+        SalesProductService service = serviceOf(store, hotProductStock);
+
+        // when
+        service.stopSales(BulkSalesProductCommand.builder()
+                .productIds(ids(1, 10))
+                .build());
+
+        // then
+        Assertions.assertThat(hotProductStock.tryPurchase(1L, 1)).isFalse();
+        Assertions.assertThat(stock.findQuantity(1L)).isEqualTo(5000);
+    }
+
+    private static SalesProductService serviceOf(ProductStatusStore store) {
+        return serviceOf(store, HotProductStockTest.hotProductStockOf(new InMemoryProductStock()));
+    }
+
+    private static SalesProductService serviceOf(ProductStatusStore store, HotProductStock hotProductStock) {
+        return new SalesProductService(
+                productId -> {
+                    throw new UnsupportedOperationException();
+                },
+                product -> {
+                    throw new UnsupportedOperationException();
+                },
+                store,
+                hotProductStock,
+                new TransactionTemplate(store));
+    }
+
+    private static List<Long> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * 판매 상태를 메모리에 두고, 트랜잭션이 커밋될 때만 반영하는 저장소.
+     * failAtChunk 번째 UPDATE 에서 실패한다.
+     */
+    private static final class ProductStatusStore extends AbstractPlatformTransactionManager implements UpdateProductSalesStatusPort {
+
+        private final long existingProducts;
+        private final int failAtChunk;
+        private final Map<Long, SalesStatus> committed = new HashMap<>();
+        private final Map<Long, SalesStatus> pending = new HashMap<>();
+        private final List<Integer> chunkSizes = new ArrayList<>();
+        private int commits;
+        private int rollbacks;
+
+        private ProductStatusStore(long existingProducts, int failAtChunk) {
+            this.existingProducts = existingProducts;
+            this.failAtChunk = failAtChunk;
+        }
+
+        @Override
+        public int updateSalesStatus(List<Long> productIds, SalesStatus status) {
+            chunkSizes.add(productIds.size());
+            int updated = 0;
+            for (Long productId : productIds) {
+                if (productId <= existingProducts) {
+                    pending.put(productId, status);
+                    updated++;
+                }
+            }
+            if (chunkSizes.size() - 1 == failAtChunk) {
+                throw new IllegalStateException("chunk " + failAtChunk + " failed");
+            }
+            return updated;
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            pending.clear();
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            committed.putAll(pending);
+            pending.clear();
+            commits++;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            pending.clear();
+            rollbacks++;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.theater.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.theater.customer.Customer;
+import com.theater.money.Money;
+import com.theater.movie.Movie;
+import com.theater.movie.MovieType;
+import com.theater.movie.discount.PeriodCondition;
+import com.theater.movie.discount.SequenceCondition;
+import com.theater.reservation.Reservation;
+import com.theater.screening.Screening;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예매 한 건의 직렬화/역직렬화 처리량을 바이너리 코덱과 Jackson JSON 으로 비교한다.
+ * JSON 쪽은 대상 클래스에 기본 생성자가 없어 역직렬화 대신 트리로 읽는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservationCodecBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+    private final ReservationFlyweight flyweight = new ReservationFlyweight();
+
+    private Reservation reservation;
+    private ByteBuffer encoded;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        Screening screening = Screening.builder()
+                .movie(Movie.builder()
+                        .title("영화")
+                        .fee(Money.wons(10000))
+                        .discountAmount(Money.wons(1000))
+                        .discountConditions(List.of(
+                                SequenceCondition.builder().sequence(1).build(),
+                                PeriodCondition.builder()
+                                        .dayOfWeek(DayOfWeek.SUNDAY)
+                                        .startTime(LocalTime.of(10, 0))
+                                        .endTime(LocalTime.of(12, 0))
+                                        .build()))
+                        .movieType(MovieType.AMOUNT_DISCOUNT)
+                        .build())
+                .sequence(1)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 10, 30))
+                .build();
+        reservation = screening.reserve(Customer.builder()
+                .id("customer-1")
+                .name("이름")
+                .build(), 2);
+
+        encoded = ByteBuffer.allocateDirect(4096);
+        ReservationCodec.encode(reservation, encoded);
+        encoded.flip();
+        json = objectMapper.writeValueAsBytes(reservation);
+    }
+
+    @Benchmark
+    public int binaryEncode() {
+        buffer.clear();
+        return ReservationCodec.encode(reservation, buffer);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws IOException {
+        return objectMapper.writeValueAsBytes(reservation);
+    }
+
+    @Benchmark
+    public Reservation binaryDecode() {
+        encoded.position(0);
+        return ReservationCodec.decode(encoded);
+    }
+
+    @Benchmark
+    public long binaryFlyweightRead() {
+        flyweight.wrap(encoded, 0);
+        return flyweight.getFee() * flyweight.getAudienceCount();
+    }
+
+    @Benchmark
+    public JsonNode jsonDecode() throws IOException {
+        return objectMapper.readTree(json);
+    }
+}
@@ -0,0 +1,41 @@
+package com.theater.money;
+
+import java.math.BigDecimal;
+
+/**
+ * 비교용으로 남겨둔 BigDecimal 기반의 기존 Money 구현.
+ */
+public class BigDecimalMoney {
+
+    public static final BigDecimalMoney ZERO = BigDecimalMoney.wons(0);
+
+    private final BigDecimal amount;
+
+    public static BigDecimalMoney wons(long amount) {
+        return new BigDecimalMoney(BigDecimal.valueOf(amount));
+    }
+
+    BigDecimalMoney(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public BigDecimalMoney plus(BigDecimalMoney amount) {
+        return new BigDecimalMoney(this.amount.add(amount.amount));
+    }
+
+    public BigDecimalMoney minus(BigDecimalMoney amount) {
+        return new BigDecimalMoney(this.amount.subtract(amount.amount));
+    }
+
+    public BigDecimalMoney times(double percent) {
+        return new BigDecimalMoney(this.amount.multiply(BigDecimal.valueOf(percent)));
+    }
+
+    public boolean isLessThan(BigDecimalMoney other) {
+        return amount.compareTo(other.amount) < 0;
+    }
+}
@@ -0,0 +1,72 @@
+package com.theater.money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Screening.reserve 한 번에 일어나는 금액 연산(할인액 계산, 차감, 인원수 곱)을
+ * long 기반 Money 와 BigDecimal 기반 Money 로 각각 수행해 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private final Money fee = Money.wons(10000);
+    private final Money discountAmount = Money.wons(800);
+    private final BigDecimalMoney bigDecimalFee = BigDecimalMoney.wons(10000);
+    private final BigDecimalMoney bigDecimalDiscountAmount = BigDecimalMoney.wons(800);
+
+    private double discountPercent = 0.1;
+    private int audienceCount = 2;
+
+    @Benchmark
+    public Money longAmountDiscount() {
+        return fee.minus(discountAmount).times(audienceCount);
+    }
+
+    @Benchmark
+    public BigDecimalMoney bigDecimalAmountDiscount() {
+        return bigDecimalFee.minus(bigDecimalDiscountAmount).times(audienceCount);
+    }
+
+    @Benchmark
+    public Money longPercentDiscount() {
+        return fee.minus(fee.times(discountPercent)).times(audienceCount);
+    }
+
+    @Benchmark
+    public BigDecimalMoney bigDecimalPercentDiscount() {
+        return bigDecimalFee.minus(bigDecimalFee.times(discountPercent)).times(audienceCount);
+    }
+
+    @Benchmark
+    public Money longRevenueSum() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < 100; i++) {
+            total = total.plus(fee);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimalMoney bigDecimalRevenueSum() {
+        BigDecimalMoney total = BigDecimalMoney.ZERO;
+        for (int i = 0; i < 100; i++) {
+            total = total.plus(bigDecimalFee);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,80 @@
+package com.theater.movie;
+
+import com.theater.money.Money;
+import com.theater.movie.discount.PeriodCondition;
+import com.theater.movie.discount.SequenceCondition;
+import com.theater.screening.Screening;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 할인 정책 종류별 Movie.calculateMovieFee 비용. 할인 대상 상영과 아닌 상영을 모두 잰다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovieFeeBenchmark {
+
+    @Param({"AMOUNT_DISCOUNT", "PERCENT_DISCOUNT", "NONE_DISCOUNT"})
+    private MovieType movieType;
+
+    private Movie movie;
+    private Screening discountedScreening;
+    private Screening regularScreening;
+
+    @Setup
+    public void setUp() {
+        movie = Movie.builder()
+                .title("영화")
+                .fee(Money.wons(10000))
+                .discountAmount(Money.wons(800))
+                .discountPercent(0.1)
+                .discountConditions(List.of(
+                        SequenceCondition.builder().sequence(1).build(),
+                        PeriodCondition.builder()
+                                .dayOfWeek(DayOfWeek.MONDAY)
+                                .startTime(LocalTime.of(10, 0))
+                                .endTime(LocalTime.of(12, 0))
+                                .build()))
+                .movieType(movieType)
+                .build();
+        discountedScreening = Screening.builder()
+                .movie(movie)
+                .sequence(1)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 9, 0))
+                .build();
+        regularScreening = Screening.builder()
+                .movie(movie)
+                .sequence(5)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 20, 0))
+                .build();
+    }
+
+    @Benchmark
+    public Money discounted() {
+        return movie.calculateMovieFee(discountedScreening);
+    }
+
+    @Benchmark
+    public Money regular() {
+        return movie.calculateMovieFee(regularScreening);
+    }
+}
@@ -0,0 +1,72 @@
+package com.theater.movie.discount;
+
+import com.theater.screening.Screening;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 할인 조건 1/10/100 개를 스트림으로 하나씩 평가할 때와 컴파일된 DiscountRules 로 평가할 때를 비교한다.
+ * 조건은 순번 조건과 기간 조건을 번갈아 만들고, 평가 대상 상영은 어느 조건도 만족하지 않아 전체를 훑게 한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiscountConditionBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int conditionCount;
+
+    private List<DiscountCondition> conditions;
+    private DiscountRules rules;
+    private Screening screening;
+
+    @Setup
+    public void setUp() {
+        conditions = new ArrayList<>();
+        for (int i = 0; i < conditionCount; i++) {
+            if (i % 2 == 0) {
+                conditions.add(SequenceCondition.builder().sequence(100 + i).build());
+            } else {
+                conditions.add(PeriodCondition.builder()
+                        .dayOfWeek(DayOfWeek.of(1 + i % 7))
+                        .startTime(LocalTime.of(i % 20, 0))
+                        .endTime(LocalTime.of(i % 20, 30))
+                        .build());
+            }
+        }
+        rules = DiscountRules.compile(conditions);
+        screening = Screening.builder()
+                .sequence(1)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 23, 45))
+                .build();
+    }
+
+    @Benchmark
+    public boolean stream() {
+        return conditions.stream().anyMatch(condition -> condition.isSatisfiedBy(screening));
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return rules.isSatisfiedBy(screening);
+    }
+}
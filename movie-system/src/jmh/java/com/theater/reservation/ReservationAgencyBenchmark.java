@@ -0,0 +1,80 @@
+package com.theater.reservation;
+
+import com.theater.customer.Customer;
+import com.theater.metrics.ReservationMetrics;
+import com.theater.money.Money;
+import com.theater.movie.Movie;
+import com.theater.movie.MovieType;
+import com.theater.movie.discount.PeriodCondition;
+import com.theater.movie.discount.SequenceCondition;
+import com.theater.screening.Screening;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReservationAgency.reserve 한 건의 전체 비용(요금 계산, 좌석 선점, 예매 생성).
+ * reserveWithMetrics 와의 차이가 ReservationMetrics 기록 비용이다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservationAgencyBenchmark {
+
+    private final ReservationAgency reservationAgency = new ReservationAgency();
+    private final ReservationAgency measuredReservationAgency = new ReservationAgency(new ReservationMetrics());
+
+    private Screening screening;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        screening = Screening.builder()
+                .movie(Movie.builder()
+                        .title("영화")
+                        .fee(Money.wons(10000))
+                        .discountAmount(Money.wons(800))
+                        .discountConditions(List.of(
+                                SequenceCondition.builder().sequence(1).build(),
+                                PeriodCondition.builder()
+                                        .dayOfWeek(DayOfWeek.SUNDAY)
+                                        .startTime(LocalTime.of(10, 0))
+                                        .endTime(LocalTime.of(12, 0))
+                                        .build()))
+                        .movieType(MovieType.AMOUNT_DISCOUNT)
+                        .build())
+                .sequence(1)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 10, 30))
+                .build();
+        customer = Customer.builder()
+                .id("test")
+                .name("이름")
+                .build();
+    }
+
+    @Benchmark
+    public Reservation reserve() {
+        return reservationAgency.reserve(screening, customer, 2);
+    }
+
+    @Benchmark
+    public Reservation reserveWithMetrics() {
+        return measuredReservationAgency.reserve(screening, customer, 2);
+    }
+}
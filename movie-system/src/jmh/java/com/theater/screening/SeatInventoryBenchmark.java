@@ -0,0 +1,81 @@
+package com.theater.screening;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 상영 회차에 모든 스레드가 몰릴 때 좌석 선점/해제 처리량.
+ * CAS 기반 SeatInventory 와 synchronized 카운터를 비교한다.
+ * 스레드 수를 바꿔가며 보려면 -t 옵션(jmh { threads = N })을 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class SeatInventoryBenchmark {
+
+    private static final int CAPACITY = 1_000_000;
+
+    private SeatInventory seatInventory;
+    private SynchronizedSeatCounter synchronizedCounter;
+
+    @Setup
+    public void setUp() {
+        seatInventory = SeatInventory.of(CAPACITY);
+        synchronizedCounter = new SynchronizedSeatCounter(CAPACITY);
+    }
+
+    @Benchmark
+    public boolean casHoldAndRelease() {
+        boolean held = seatInventory.tryHold(2);
+        if (held) {
+            seatInventory.release(2);
+        }
+        return held;
+    }
+
+    @Benchmark
+    public boolean synchronizedHoldAndRelease() {
+        boolean held = synchronizedCounter.tryHold(2);
+        if (held) {
+            synchronizedCounter.release(2);
+        }
+        return held;
+    }
+
+    static class SynchronizedSeatCounter {
+
+        private final int capacity;
+        private int reserved;
+
+        SynchronizedSeatCounter(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized boolean tryHold(int count) {
+            if (count > capacity - reserved) {
+                return false;
+            }
+            reserved += count;
+            return true;
+        }
+
+        synchronized void release(int count) {
+            reserved -= count;
+        }
+    }
+}
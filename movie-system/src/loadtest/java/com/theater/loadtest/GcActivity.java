@@ -0,0 +1,39 @@
+package com.theater.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 측정 구간 동안 수집기별로 늘어난 GC 횟수와 누적 수집 시간(ms).
+ * GarbageCollectorMXBean 의 수집 시간이므로 동시 수집기(G1 의 동시 단계, ZGC, Shenandoah)에서는
+ * 애플리케이션이 멈춘 시간이 아니라 수집 작업이 돈 시간이다.
+ */
+class GcActivity {
+
+    private final Map<String, long[]> started = new LinkedHashMap<>();
+    private final Map<String, long[]> elapsed = new LinkedHashMap<>();
+
+    static GcActivity start() {
+        GcActivity activity = new GcActivity();
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            activity.started.put(collector.getName(), new long[]{collector.getCollectionCount(), collector.getCollectionTime()});
+        }
+        return activity;
+    }
+
+    GcActivity stop() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            long[] start = started.getOrDefault(collector.getName(), new long[2]);
+            elapsed.put(collector.getName(), new long[]{
+                    collector.getCollectionCount() - start[0],
+                    collector.getCollectionTime() - start[1]});
+        }
+        return this;
+    }
+
+    Map<String, long[]> getElapsed() {
+        return elapsed;
+    }
+}
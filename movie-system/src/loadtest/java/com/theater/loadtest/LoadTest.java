@@ -0,0 +1,218 @@
+package com.theater.loadtest;
+
+import com.theater.customer.Customer;
+import com.theater.metrics.LatencyHistogram;
+import com.theater.metrics.ReservationMetrics;
+import com.theater.money.Money;
+import com.theater.movie.Duration;
+import com.theater.movie.Movie;
+import com.theater.movie.MovieType;
+import com.theater.movie.discount.PeriodCondition;
+import com.theater.movie.discount.SequenceCondition;
+import com.theater.reservation.ReservationAgency;
+import com.theater.reservation.shard.ReservationShard;
+import com.theater.reservation.shard.ShardTransport;
+import com.theater.reservation.shard.ShardedReservationAgency;
+import com.theater.screening.Screening;
+import com.theater.screening.SeatInventory;
+import com.theater.screening.exception.NotEnoughSeatsException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 매표 시작 직후처럼 요청이 몰리는 상황을 한 프로세스 안에서 재현하는 부하 발생기.
+ * 요청은 처리 속도와 무관하게 정해진 도착 시각에 발생하며(open loop), 지연 시간은 실제 시작 시각이 아니라
+ * 예정된 도착 시각부터 재므로 처리가 밀린 동안 기다린 시간도 포함된다(coordinated omission 보정).
+ * 상영은 Zipf 분포로 인기가 몰리고, 관객 수는 1~4명이 섞인다.
+ *
+ * ./gradlew loadTest -PloadTestArgs="target=agency rate=50000 threads=8 duration=30"
+ */
+public class LoadTest {
+
+    private static final int[] AUDIENCE_COUNTS = {1, 1, 1, 1, 2, 2, 2, 2, 2, 2, 2, 3, 3, 4, 4, 4};
+    private static final long SPIN_THRESHOLD_NANOS = 50_000L;
+
+    private final LoadTestOptions options;
+    private final List<Screening> screenings;
+    private final ZipfDistribution popularity;
+    private final Target target;
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram serviceTime = new LatencyHistogram();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder soldOut = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    LoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.screenings = createScreenings(options.screenings, options.capacity);
+        this.popularity = new ZipfDistribution(options.screenings, options.zipfExponent);
+        this.target = createTarget(options.target, options.threads);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        System.out.println(options);
+        new LoadTest(options).run();
+    }
+
+    void run() throws InterruptedException {
+        long intervalNanos = 1_000_000_000L * options.threads / options.rate;
+        long startNanos = System.nanoTime() + 100_000_000L;
+        long measureFromNanos = startNanos + options.warmupSeconds * 1_000_000_000L;
+        long endNanos = measureFromNanos + options.durationSeconds * 1_000_000_000L;
+
+        CountDownLatch done = new CountDownLatch(options.threads);
+        for (int worker = 0; worker < options.threads; worker++) {
+            long firstArrival = startNanos + intervalNanos * worker / options.threads;
+            SplittableRandom random = new SplittableRandom(options.seed + worker);
+            Thread thread = new Thread(() -> {
+                try {
+                    generate(random, firstArrival, intervalNanos, measureFromNanos, endNanos);
+                } finally {
+                    done.countDown();
+                }
+            }, "load-" + worker);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        LockSupport.parkNanos(Math.max(0L, measureFromNanos - System.nanoTime()));
+        GcActivity gcActivity = GcActivity.start();
+        done.await();
+        gcActivity.stop();
+        long measuredNanos = Math.min(System.nanoTime(), endNanos) - measureFromNanos;
+        target.close();
+
+        report(measuredNanos, gcActivity);
+    }
+
+    private void generate(SplittableRandom random, long firstArrival, long intervalNanos, long measureFromNanos, long endNanos) {
+        Customer customer = Customer.builder()
+                .id(Thread.currentThread().getName())
+                .name(Thread.currentThread().getName())
+                .build();
+        for (long intended = firstArrival; intended < endNanos; intended += intervalNanos) {
+            waitUntil(intended);
+            Screening screening = screenings.get(popularity.sample(random));
+            int audienceCount = AUDIENCE_COUNTS[random.nextInt(AUDIENCE_COUNTS.length)];
+
+            long start = System.nanoTime();
+            boolean reserved = reserve(screening, customer, audienceCount);
+            long end = System.nanoTime();
+
+            if (intended >= measureFromNanos) {
+                latency.record(end - intended);
+                serviceTime.record(end - start);
+                if (reserved) {
+                    completed.increment();
+                }
+            }
+        }
+    }
+
+    private boolean reserve(Screening screening, Customer customer, int audienceCount) {
+        try {
+            target.reserve(screening, customer, audienceCount);
+            return true;
+        } catch (NotEnoughSeatsException e) {
+            soldOut.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+        }
+        return false;
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void report(long measuredNanos, GcActivity gcActivity) {
+        double seconds = measuredNanos / 1e9;
+        System.out.printf("throughput   %.0f reservations/s (sold out %d, failed %d)%n",
+                completed.sum() / seconds, soldOut.sum(), failed.sum());
+        printPercentiles("latency     ", latency);
+        printPercentiles("service time", serviceTime);
+        for (Map.Entry<String, long[]> entry : gcActivity.getElapsed().entrySet()) {
+            System.out.printf("gc time      %s: %d collections, %d ms collection time%n",
+                    entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+        }
+    }
+
+    private static void printPercentiles(String label, LatencyHistogram histogram) {
+        System.out.printf("%s p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus (n=%d)%n", label,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                histogram.getTotalCount());
+    }
+
+    private static List<Screening> createScreenings(int count, int capacity) {
+        List<Screening> screenings = new ArrayList<>(count);
+        LocalDateTime firstShow = LocalDateTime.of(2023, 1, 1, 9, 0);
+        for (int i = 0; i < count; i++) {
+            Movie movie = Movie.builder()
+                    .title("영화" + (i % 50))
+                    .runningTime(Duration.minutes(120))
+                    .fee(Money.wons(10000))
+                    .discountAmount(Money.wons(800))
+                    .discountConditions(List.of(
+                            SequenceCondition.builder().sequence(1).build(),
+                            PeriodCondition.builder()
+                                    .dayOfWeek(DayOfWeek.SUNDAY)
+                                    .startTime(LocalTime.of(10, 0))
+                                    .endTime(LocalTime.of(12, 0))
+                                    .build()))
+                    .movieType(MovieType.AMOUNT_DISCOUNT)
+                    .build();
+            screenings.add(Screening.builder()
+                    .movie(movie)
+                    .sequence(i % 10 + 1)
+                    .whenScreened(firstShow.plusMinutes(30L * i))
+                    .auditorium((i % 20 + 1) + "관")
+                    .seatInventory(capacity == 0 ? SeatInventory.unlimited() : SeatInventory.of(capacity))
+                    .build());
+        }
+        return screenings;
+    }
+
+    private static Target createTarget(String name, int threads) {
+        switch (name) {
+            case "agency": {
+                ReservationAgency agency = new ReservationAgency();
+                return Target.of(agency::reserve, () -> { });
+            }
+            case "metrics": {
+                ReservationAgency agency = new ReservationAgency(new ReservationMetrics());
+                return Target.of(agency::reserve, () -> { });
+            }
+            case "sharded": {
+                List<ShardTransport> shards = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    shards.add(new ReservationShard("shard-" + i, new ReservationAgency()));
+                }
+                ShardedReservationAgency agency = new ShardedReservationAgency(shards);
+                return Target.of(agency::reserve, agency::close);
+            }
+            default:
+                throw new IllegalArgumentException("unknown target: " + name + " (agency, metrics, sharded)");
+        }
+    }
+}
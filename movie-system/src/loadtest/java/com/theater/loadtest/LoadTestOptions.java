@@ -0,0 +1,57 @@
+package com.theater.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * key=value 형식의 실행 인자. 지정하지 않은 값은 기본값을 쓴다.
+ */
+class LoadTestOptions {
+
+    final String target;
+    final int rate;
+    final int threads;
+    final int warmupSeconds;
+    final int durationSeconds;
+    final int screenings;
+    final double zipfExponent;
+    final int capacity;
+    final long seed;
+
+    private LoadTestOptions(Map<String, String> values) {
+        target = values.getOrDefault("target", "agency");
+        rate = Integer.parseInt(values.getOrDefault("rate", "20000"));
+        threads = Integer.parseInt(values.getOrDefault("threads", "4"));
+        warmupSeconds = Integer.parseInt(values.getOrDefault("warmup", "5"));
+        durationSeconds = Integer.parseInt(values.getOrDefault("duration", "30"));
+        screenings = Integer.parseInt(values.getOrDefault("screenings", "1000"));
+        zipfExponent = Double.parseDouble(values.getOrDefault("zipf", "1.1"));
+        capacity = Integer.parseInt(values.getOrDefault("capacity", "0"));
+        seed = Long.parseLong(values.getOrDefault("seed", "42"));
+        if (rate <= 0 || threads <= 0 || durationSeconds <= 0 || screenings <= 0) {
+            throw new IllegalArgumentException("rate, threads, duration and screenings must be positive");
+        }
+        if (rate > 1_000_000_000L * threads) {
+            throw new IllegalArgumentException("rate must not exceed 1e9 per thread: rate=" + rate + " threads=" + threads);
+        }
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("expected key=value: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    @Override
+    public String toString() {
+        return "target=" + target + " rate=" + rate + "/s threads=" + threads + " warmup=" + warmupSeconds + "s duration="
+                + durationSeconds + "s screenings=" + screenings + " zipf=" + zipfExponent
+                + " capacity=" + (capacity == 0 ? "unlimited" : capacity) + " seed=" + seed;
+    }
+}
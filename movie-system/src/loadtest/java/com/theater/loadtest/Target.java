@@ -0,0 +1,35 @@
+package com.theater.loadtest;
+
+import com.theater.customer.Customer;
+import com.theater.reservation.Reservation;
+import com.theater.screening.Screening;
+
+/**
+ * 부하를 받을 예매 경로. 새 동시성 구현을 비교하려면 LoadTest.createTarget 에 이름을 추가한다.
+ */
+interface Target {
+
+    Reservation reserve(Screening screening, Customer customer, int audienceCount);
+
+    void close();
+
+    static Target of(Reserver reserver, Runnable close) {
+        return new Target() {
+            @Override
+            public Reservation reserve(Screening screening, Customer customer, int audienceCount) {
+                return reserver.reserve(screening, customer, audienceCount);
+            }
+
+            @Override
+            public void close() {
+                close.run();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    interface Reserver {
+
+        Reservation reserve(Screening screening, Customer customer, int audienceCount);
+    }
+}
@@ -0,0 +1,219 @@
+package com.theater.codec;
+
+import com.theater.customer.Customer;
+import com.theater.money.Money;
+import com.theater.movie.Duration;
+import com.theater.movie.Movie;
+import com.theater.movie.MoviePricing;
+import com.theater.movie.MovieType;
+import com.theater.movie.discount.DiscountCondition;
+import com.theater.movie.discount.PeriodCondition;
+import com.theater.movie.discount.SequenceCondition;
+import com.theater.reservation.Reservation;
+import com.theater.screening.Screening;
+import com.theater.screening.ScreeningFee;
+
+import java.nio.ByteBuffer;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reservation -> Screening -> Movie 그래프를 ByteBuffer 에 바이너리로 쓰고 읽는다.
+ * 금액은 Money.getScaledAmount 의 long 으로, 할인 조건은 종류 태그와 값으로 기록한다.
+ *
+ * <pre>
+ *  0 int    메시지 길이
+ *  4 long   예매 요금
+ * 12 int    관객 수
+ * 16 long   요금 설정 버전
+ * 24 int    상영 순번
+ * 28 long   상영 시각 (UTC epoch second)
+ * 36 int    상영 시각 nano
+ * 40 long   영화 기본 요금
+ * 48 byte   할인 정책 (MovieType ordinal, 없으면 -1)
+ * 49 byte   할인 금액 존재 여부
+ * 50 short  할인 조건 개수
+ * 52 long   할인 금액
+ * 60 double 할인율
+ * 68 double 가격 배수
+ * 76 long   상영 id
+ * 84 long   영화 상영 시간 (분, 없으면 -1)
+ * 92 int    고객 핸들
+ * 96 ...    고객 id, 고객 이름, 영화 제목, 상영관 (short 길이 + UTF-8, null 은 길이 -1), 할인 조건 목록
+ * </pre>
+ *
+ * 고정 위치 필드는 ReservationFlyweight 로 그래프를 만들지 않고 바로 읽을 수 있다.
+ * 상영 id 가 음수(JVM 안에서만 유효한 id)면 읽는 쪽에서 새 로컬 id 를 받는다.
+ */
+public final class ReservationCodec {
+
+    static final int LENGTH_OFFSET = 0;
+    static final int FEE_OFFSET = 4;
+    static final int AUDIENCE_COUNT_OFFSET = 12;
+    static final int PRICING_VERSION_OFFSET = 16;
+    static final int SEQUENCE_OFFSET = 24;
+    static final int EPOCH_SECOND_OFFSET = 28;
+    static final int NANO_OFFSET = 36;
+    static final int MOVIE_FEE_OFFSET = 40;
+    static final int MOVIE_TYPE_OFFSET = 48;
+    static final int DISCOUNT_AMOUNT_PRESENT_OFFSET = 49;
+    static final int CONDITION_COUNT_OFFSET = 50;
+    static final int DISCOUNT_AMOUNT_OFFSET = 52;
+    static final int DISCOUNT_PERCENT_OFFSET = 60;
+    static final int PRICE_MULTIPLIER_OFFSET = 68;
+    static final int SCREENING_ID_OFFSET = 76;
+    static final int RUNNING_TIME_OFFSET = 84;
+    static final int CUSTOMER_HANDLE_OFFSET = 92;
+    static final int HEADER_LENGTH = 96;
+
+    static final MovieType[] MOVIE_TYPES = MovieType.values();
+
+    static final byte SEQUENCE_CONDITION_TAG = 1;
+    static final byte PERIOD_CONDITION_TAG = 2;
+
+    private ReservationCodec() {
+    }
+
+    /**
+     * buffer 의 현재 위치부터 예매를 쓰고 위치를 메시지 끝으로 옮긴다. 쓴 byte 수를 돌려준다.
+     * 요금 설정은 영화의 현재 설정이 아니라 예매가 확정될 때의 스냅샷을 기록하므로 헤더의 요금 설정 버전과 항상 맞는다.
+     */
+    public static int encode(Reservation reservation, ByteBuffer buffer) {
+        int start = buffer.position();
+        Screening screening = reservation.getScreening();
+        ScreeningFee screeningFee = reservation.getScreeningFee();
+        MoviePricing pricing = screeningFee == null ? screening.getMovie().getPricing() : screeningFee.getPricing();
+        LocalDateTime whenScreened = screening.getWhenScreened();
+        List<DiscountCondition> conditions = pricing.getDiscountConditions();
+
+        buffer.putLong(start + FEE_OFFSET, reservation.getFee().getScaledAmount());
+        buffer.putInt(start + AUDIENCE_COUNT_OFFSET, reservation.getAudienceCount());
+        buffer.putLong(start + PRICING_VERSION_OFFSET, reservation.getPricingVersion());
+        buffer.putInt(start + SEQUENCE_OFFSET, screening.getSequence());
+        buffer.putLong(start + EPOCH_SECOND_OFFSET, whenScreened.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(start + NANO_OFFSET, whenScreened.getNano());
+        buffer.putLong(start + MOVIE_FEE_OFFSET, pricing.getFee().getScaledAmount());
+        buffer.put(start + MOVIE_TYPE_OFFSET, pricing.getMovieType() == null ? -1 : (byte) pricing.getMovieType().ordinal());
+        buffer.put(start + DISCOUNT_AMOUNT_PRESENT_OFFSET, pricing.getDiscountAmount() == null ? (byte) 0 : (byte) 1);
+        buffer.putShort(start + CONDITION_COUNT_OFFSET, (short) conditions.size());
+        buffer.putLong(start + DISCOUNT_AMOUNT_OFFSET, pricing.getDiscountAmount() == null ? 0L : pricing.getDiscountAmount().getScaledAmount());
+        buffer.putDouble(start + DISCOUNT_PERCENT_OFFSET, pricing.getDiscountPercent());
+        buffer.putDouble(start + PRICE_MULTIPLIER_OFFSET, screeningFee == null
+                ? screening.getPriceMultiplier()
+                : screeningFee.getPriceMultiplier());
+        buffer.putLong(start + SCREENING_ID_OFFSET, screening.getId());
+        Duration runningTime = screening.getMovie().getRunningTime();
+        buffer.putLong(start + RUNNING_TIME_OFFSET, runningTime == null ? -1L : runningTime.getMinutes());
+        buffer.putInt(start + CUSTOMER_HANDLE_OFFSET, reservation.getCustomerHandle());
+
+        buffer.position(start + HEADER_LENGTH);
+        Customer customer = reservation.getCustomer();
+        Utf8.write(buffer, customer == null ? null : customer.getId());
+        Utf8.write(buffer, customer == null ? null : customer.getName());
+        Utf8.write(buffer, screening.getMovie().getTitle());
+        Utf8.write(buffer, screening.getAuditorium());
+        for (DiscountCondition condition : conditions) {
+            writeCondition(buffer, condition);
+        }
+
+        int length = buffer.position() - start;
+        buffer.putInt(start + LENGTH_OFFSET, length);
+        return length;
+    }
+
+    /**
+     * buffer 의 현재 위치에서 예매 하나를 읽어 객체 그래프로 만든다.
+     * 영화의 요금 설정은 헤더의 요금 설정 버전을 이어받으므로 예매의 1인 요금 스냅샷도 같은 버전을 가진다.
+     */
+    public static Reservation decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        int length = buffer.getInt(start + LENGTH_OFFSET);
+        int conditionCount = buffer.getShort(start + CONDITION_COUNT_OFFSET);
+        byte movieType = buffer.get(start + MOVIE_TYPE_OFFSET);
+        boolean hasDiscountAmount = buffer.get(start + DISCOUNT_AMOUNT_PRESENT_OFFSET) != 0;
+
+        buffer.position(start + HEADER_LENGTH);
+        String customerId = Utf8.read(buffer);
+        String customerName = Utf8.read(buffer);
+        String title = Utf8.read(buffer);
+        String auditorium = Utf8.read(buffer);
+        List<DiscountCondition> conditions = new ArrayList<>(conditionCount);
+        for (int i = 0; i < conditionCount; i++) {
+            conditions.add(readCondition(buffer));
+        }
+
+        long pricingVersion = buffer.getLong(start + PRICING_VERSION_OFFSET);
+        long runningTime = buffer.getLong(start + RUNNING_TIME_OFFSET);
+        long screeningId = buffer.getLong(start + SCREENING_ID_OFFSET);
+        Movie movie = Movie.builder()
+                .title(title)
+                .runningTime(runningTime < 0 ? null : Duration.minutes(runningTime))
+                .fee(Money.scaled(buffer.getLong(start + MOVIE_FEE_OFFSET)))
+                .discountConditions(conditions)
+                .movieType(movieType < 0 ? null : MOVIE_TYPES[movieType])
+                .discountAmount(hasDiscountAmount ? Money.scaled(buffer.getLong(start + DISCOUNT_AMOUNT_OFFSET)) : null)
+                .discountPercent(buffer.getDouble(start + DISCOUNT_PERCENT_OFFSET))
+                .version(pricingVersion)
+                .build();
+        Screening screening = Screening.builder()
+                .id(Math.max(screeningId, 0L))
+                .movie(movie)
+                .sequence(buffer.getInt(start + SEQUENCE_OFFSET))
+                .whenScreened(LocalDateTime.ofEpochSecond(buffer.getLong(start + EPOCH_SECOND_OFFSET),
+                        buffer.getInt(start + NANO_OFFSET), ZoneOffset.UTC))
+                .auditorium(auditorium)
+                .build();
+        screening.setPriceMultiplier(buffer.getDouble(start + PRICE_MULTIPLIER_OFFSET));
+        Customer customer = customerId == null && customerName == null ? null : Customer.builder()
+                .id(customerId)
+                .name(customerName)
+                .build();
+
+        buffer.position(start + length);
+        return Reservation.builder()
+                .customer(customer)
+                .screening(screening)
+                .fee(Money.scaled(buffer.getLong(start + FEE_OFFSET)))
+                .audienceCount(buffer.getInt(start + AUDIENCE_COUNT_OFFSET))
+                .pricingVersion(pricingVersion)
+                .screeningFee(screening.calculateScreeningFee())
+                .customerHandle(buffer.getInt(start + CUSTOMER_HANDLE_OFFSET))
+                .build();
+    }
+
+    private static void writeCondition(ByteBuffer buffer, DiscountCondition condition) {
+        if (condition instanceof SequenceCondition) {
+            buffer.put(SEQUENCE_CONDITION_TAG);
+            buffer.putInt(((SequenceCondition) condition).getSequence());
+        } else if (condition instanceof PeriodCondition) {
+            PeriodCondition period = (PeriodCondition) condition;
+            buffer.put(PERIOD_CONDITION_TAG);
+            buffer.put((byte) period.getDayOfWeek().getValue());
+            buffer.putLong(period.getStartTime().toNanoOfDay());
+            buffer.putLong(period.getEndTime().toNanoOfDay());
+        } else {
+            throw new IllegalArgumentException("unsupported discount condition: " + condition.getClass().getName());
+        }
+    }
+
+    private static DiscountCondition readCondition(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case SEQUENCE_CONDITION_TAG:
+                return SequenceCondition.builder()
+                        .sequence(buffer.getInt())
+                        .build();
+            case PERIOD_CONDITION_TAG:
+                return PeriodCondition.builder()
+                        .dayOfWeek(DayOfWeek.of(buffer.get()))
+                        .startTime(LocalTime.ofNanoOfDay(buffer.getLong()))
+                        .endTime(LocalTime.ofNanoOfDay(buffer.getLong()))
+                        .build();
+        }
+        throw new IllegalArgumentException("unknown discount condition tag: " + tag);
+    }
+}
@@ -0,0 +1,111 @@
+package com.theater.codec;
+
+import com.theater.movie.MovieType;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static com.theater.codec.ReservationCodec.AUDIENCE_COUNT_OFFSET;
+import static com.theater.codec.ReservationCodec.CUSTOMER_HANDLE_OFFSET;
+import static com.theater.codec.ReservationCodec.EPOCH_SECOND_OFFSET;
+import static com.theater.codec.ReservationCodec.FEE_OFFSET;
+import static com.theater.codec.ReservationCodec.HEADER_LENGTH;
+import static com.theater.codec.ReservationCodec.LENGTH_OFFSET;
+import static com.theater.codec.ReservationCodec.MOVIE_FEE_OFFSET;
+import static com.theater.codec.ReservationCodec.MOVIE_TYPES;
+import static com.theater.codec.ReservationCodec.MOVIE_TYPE_OFFSET;
+import static com.theater.codec.ReservationCodec.NANO_OFFSET;
+import static com.theater.codec.ReservationCodec.PRICE_MULTIPLIER_OFFSET;
+import static com.theater.codec.ReservationCodec.PRICING_VERSION_OFFSET;
+import static com.theater.codec.ReservationCodec.RUNNING_TIME_OFFSET;
+import static com.theater.codec.ReservationCodec.SCREENING_ID_OFFSET;
+import static com.theater.codec.ReservationCodec.SEQUENCE_OFFSET;
+
+/**
+ * ReservationCodec 으로 기록된 메시지 위에 얹어 필드를 바로 읽는 뷰.
+ * wrap 으로 위치만 바꿔가며 재사용하므로 메시지를 훑는 동안 객체 그래프를 만들지 않는다.
+ */
+public class ReservationFlyweight {
+
+    private ByteBuffer buffer;
+    private int offset;
+
+    public ReservationFlyweight wrap(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        return this;
+    }
+
+    public int getLength() {
+        return buffer.getInt(offset + LENGTH_OFFSET);
+    }
+
+    public long getFee() {
+        return buffer.getLong(offset + FEE_OFFSET);
+    }
+
+    public int getAudienceCount() {
+        return buffer.getInt(offset + AUDIENCE_COUNT_OFFSET);
+    }
+
+    public long getPricingVersion() {
+        return buffer.getLong(offset + PRICING_VERSION_OFFSET);
+    }
+
+    public long getScreeningId() {
+        return buffer.getLong(offset + SCREENING_ID_OFFSET);
+    }
+
+    public int getSequence() {
+        return buffer.getInt(offset + SEQUENCE_OFFSET);
+    }
+
+    public long getWhenScreenedEpochSecond() {
+        return buffer.getLong(offset + EPOCH_SECOND_OFFSET);
+    }
+
+    public LocalDateTime getWhenScreened() {
+        return LocalDateTime.ofEpochSecond(getWhenScreenedEpochSecond(), buffer.getInt(offset + NANO_OFFSET), ZoneOffset.UTC);
+    }
+
+    public long getMovieFee() {
+        return buffer.getLong(offset + MOVIE_FEE_OFFSET);
+    }
+
+    public double getPriceMultiplier() {
+        return buffer.getDouble(offset + PRICE_MULTIPLIER_OFFSET);
+    }
+
+    /**
+     * 영화 상영 시간(분). 없으면 -1 이다.
+     */
+    public long getRunningTimeMinutes() {
+        return buffer.getLong(offset + RUNNING_TIME_OFFSET);
+    }
+
+    public int getCustomerHandle() {
+        return buffer.getInt(offset + CUSTOMER_HANDLE_OFFSET);
+    }
+
+    public MovieType getMovieType() {
+        byte ordinal = buffer.get(offset + MOVIE_TYPE_OFFSET);
+        return ordinal < 0 ? null : MOVIE_TYPES[ordinal];
+    }
+
+    public String getCustomerId() {
+        return Utf8.read(buffer, offset + HEADER_LENGTH);
+    }
+
+    public String getCustomerName() {
+        return Utf8.read(buffer, Utf8.skip(buffer, offset + HEADER_LENGTH));
+    }
+
+    public String getMovieTitle() {
+        return Utf8.read(buffer, Utf8.skip(buffer, Utf8.skip(buffer, offset + HEADER_LENGTH)));
+    }
+
+    public String getAuditorium() {
+        return Utf8.read(buffer, Utf8.skip(buffer, Utf8.skip(buffer, Utf8.skip(buffer, offset + HEADER_LENGTH))));
+    }
+}
@@ -0,0 +1,120 @@
+package com.theater.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * short 길이 접두어 + UTF-8 문자열. 쓸 때는 byte 배열을 만들지 않고 문자를 바로 인코딩한다.
+ */
+final class Utf8 {
+
+    static final short NULL_LENGTH = -1;
+
+    private static final byte REPLACEMENT = '?';
+
+    private Utf8() {
+    }
+
+    /**
+     * 길이가 Short.MAX_VALUE byte 를 넘거나 버퍼에 자리가 없으면 아무것도 쓰지 않고 예외를 던진다.
+     * 짝이 없는 surrogate 는 String.getBytes(UTF_8) 과 같이 '?' 로 바꾼다.
+     */
+    static void write(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putShort(NULL_LENGTH);
+            return;
+        }
+        int length = encodedLength(value);
+        if (length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("string longer than " + Short.MAX_VALUE + " bytes");
+        }
+        if (buffer.remaining() < Short.BYTES + length) {
+            throw new BufferOverflowException();
+        }
+        buffer.putShort((short) length);
+        for (int i = 0; i < value.length(); i++) {
+            int codePoint = value.codePointAt(i);
+            if (codePoint < 0x80) {
+                buffer.put((byte) codePoint);
+            } else if (codePoint < 0x800) {
+                buffer.put((byte) (0xC0 | codePoint >> 6));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+                buffer.put(REPLACEMENT);
+            } else if (codePoint < 0x10000) {
+                buffer.put((byte) (0xE0 | codePoint >> 12));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+            } else {
+                buffer.put((byte) (0xF0 | codePoint >> 18));
+                buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+                i++;
+            }
+        }
+    }
+
+    static String read(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        checkLength(length, buffer.remaining());
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 문자열 필드를 읽지 않고 건너뛰어 다음 필드의 위치를 돌려준다.
+     */
+    static int skip(ByteBuffer buffer, int position) {
+        short length = buffer.getShort(position);
+        if (length == NULL_LENGTH) {
+            return position + Short.BYTES;
+        }
+        checkLength(length, buffer.limit() - position - Short.BYTES);
+        return position + Short.BYTES + length;
+    }
+
+    static String read(ByteBuffer buffer, int position) {
+        short length = buffer.getShort(position);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        checkLength(length, buffer.limit() - position - Short.BYTES);
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(position + Short.BYTES + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int encodedLength(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            int codePoint = value.codePointAt(i);
+            if (codePoint < 0x80) {
+                length += 1;
+            } else if (codePoint < 0x800) {
+                length += 2;
+            } else if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+                length += 1;
+            } else if (codePoint < 0x10000) {
+                length += 3;
+            } else {
+                length += 4;
+                i++;
+            }
+        }
+        return length;
+    }
+
+    private static void checkLength(short length, int available) {
+        if (length < 0 || length > available) {
+            throw new IllegalArgumentException("invalid string length " + length + ", " + available + " bytes available");
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.theater.customer;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고객 id 로 고객 한 명당 하나의 Customer 인스턴스와 int 핸들을 발급하는 저장소.
+ * id 색인은 선형 탐사 open addressing 테이블이며, 조회는 락 없이 volatile 읽기만으로 이루어진다.
+ * 등록은 한 번에 하나씩 진행되고, 테이블이 3/4 을 넘으면 두 배 크기로 다시 만들어 교체한다.
+ * 고객 이름은 같은 문자열끼리 하나의 인스턴스를 공유한다.
+ */
+public class CustomerRegistry {
+
+    public static final int NO_HANDLE = 0;
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+
+    private volatile Index index;
+    private volatile Customer[] customers;
+    private int size;
+
+    public CustomerRegistry() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CustomerRegistry(int expectedSize) {
+        this.index = new Index(tableSizeFor(expectedSize));
+        this.customers = new Customer[Math.max(expectedSize, 1) + 1];
+    }
+
+    /**
+     * 고객을 등록하고 핸들을 돌려준다. 이미 등록된 id 면 기존 핸들을 돌려주며 기존 정보는 바꾸지 않는다.
+     */
+    public int register(Customer customer) {
+        String id = customer.getId();
+        if (id == null) {
+            throw new IllegalArgumentException("customer id must not be null");
+        }
+        int handle = handleOf(id);
+        if (handle != NO_HANDLE) {
+            return handle;
+        }
+        return registerIfAbsent(id, customer.getName());
+    }
+
+    /**
+     * id 에 해당하는 핸들. 등록되지 않은 id 면 NO_HANDLE 이다.
+     */
+    public int handleOf(String id) {
+        return index.get(id);
+    }
+
+    public Customer customerOf(int handle) {
+        Customer[] customers = this.customers;
+        if (handle <= NO_HANDLE || handle >= customers.length || customers[handle] == null) {
+            throw new IllegalArgumentException("unknown customer handle: " + handle);
+        }
+        return customers[handle];
+    }
+
+    /**
+     * 등록된 고객의 공유 인스턴스. 등록되지 않은 고객이면 등록한다.
+     */
+    public Customer canonical(Customer customer) {
+        return customerOf(register(customer));
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private synchronized int registerIfAbsent(String id, String name) {
+        int handle = index.get(id);
+        if (handle != NO_HANDLE) {
+            return handle;
+        }
+
+        handle = size + 1;
+        Customer[] customers = this.customers;
+        if (handle >= customers.length) {
+            customers = Arrays.copyOf(customers, customers.length * 2);
+        }
+        customers[handle] = Customer.builder()
+                .id(id)
+                .name(name == null ? null : names.computeIfAbsent(name, key -> key))
+                .build();
+        this.customers = customers;
+
+        Index index = this.index;
+        if ((size + 1) * 4L > index.capacity() * 3L) {
+            index = index.resize();
+        }
+        index.put(id, handle);
+        this.index = index;
+        size = handle;
+        return handle;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 4 / 3 + 1) << 1;
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("expected size is too large: " + expectedSize);
+        }
+        return capacity;
+    }
+
+    /**
+     * 핸들을 먼저 쓰고 id 를 나중에 volatile 로 써서, id 가 보이는 읽기는 항상 핸들도 본다.
+     */
+    private static final class Index {
+
+        private final AtomicReferenceArray<String> ids;
+        private final int[] handles;
+        private final int mask;
+
+        private Index(int capacity) {
+            this.ids = new AtomicReferenceArray<>(capacity);
+            this.handles = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private int capacity() {
+            return handles.length;
+        }
+
+        private int get(String id) {
+            for (int slot = spread(id.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+                String candidate = ids.get(slot);
+                if (candidate == null) {
+                    return NO_HANDLE;
+                }
+                if (candidate.equals(id)) {
+                    return handles[slot];
+                }
+            }
+        }
+
+        private void put(String id, int handle) {
+            int slot = spread(id.hashCode()) & mask;
+            while (ids.get(slot) != null) {
+                slot = (slot + 1) & mask;
+            }
+            handles[slot] = handle;
+            ids.set(slot, id);
+        }
+
+        private Index resize() {
+            Index resized = new Index(capacity() << 1);
+            for (int slot = 0; slot < capacity(); slot++) {
+                String id = ids.get(slot);
+                if (id != null) {
+                    resized.put(id, handles[slot]);
+                }
+            }
+            return resized;
+        }
+
+        private static int spread(int hash) {
+            return (hash ^ (hash >>> 16)) * 0x9E3779B9;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.theater.metrics;
+
+public interface MetricsExporter {
+
+    void export(ReservationMetricsSnapshot snapshot);
+}
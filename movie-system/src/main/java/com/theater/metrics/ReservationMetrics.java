@@ -0,0 +1,78 @@
+package com.theater.metrics;
+
+import com.theater.movie.MovieType;
+import com.theater.movie.discount.DiscountCondition;
+import com.theater.reservation.Reservation;
+import com.theater.screening.ScreeningFee;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예매 처리 지표. 지연 시간 히스토그램, 할인 조건 종류별·할인 정책별 할인 적용 횟수, 매출을 기록한다.
+ * 기록 경로는 LongAdder 와 원자적 배열 증가만 사용한다.
+ */
+public class ReservationMetrics {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder reservationCount = new LongAdder();
+    private final LongAdder audienceCount = new LongAdder();
+    private final LongAdder revenue = new LongAdder();
+    private final Map<Class<? extends DiscountCondition>, LongAdder> discountHitsByConditionType = new ConcurrentHashMap<>();
+    private final Map<MovieType, LongAdder> discountHitsByMovieType = new EnumMap<>(MovieType.class);
+
+    public ReservationMetrics() {
+        for (MovieType movieType : MovieType.values()) {
+            discountHitsByMovieType.put(movieType, new LongAdder());
+        }
+    }
+
+    public void record(Reservation reservation, ScreeningFee screeningFee, long latencyNanos) {
+        latency.record(latencyNanos);
+        reservationCount.increment();
+        audienceCount.add(reservation.getAudienceCount());
+        revenue.add(reservation.getFee().getScaledAmount());
+
+        if (screeningFee.isDiscounted()) {
+            LongAdder hits = discountHitsByConditionType.get(screeningFee.getMatchedConditionType());
+            if (hits == null) {
+                hits = discountHitsByConditionType.computeIfAbsent(screeningFee.getMatchedConditionType(), type -> new LongAdder());
+            }
+            hits.increment();
+            MovieType movieType = screeningFee.getPricing().getMovieType();
+            if (movieType != null) {
+                discountHitsByMovieType.get(movieType).increment();
+            }
+        }
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public ReservationMetricsSnapshot snapshot() {
+        Map<Class<? extends DiscountCondition>, Long> byConditionType = new HashMap<>();
+        discountHitsByConditionType.forEach((type, hits) -> byConditionType.put(type, hits.sum()));
+        Map<MovieType, Long> byMovieType = new EnumMap<>(MovieType.class);
+        discountHitsByMovieType.forEach((type, hits) -> byMovieType.put(type, hits.sum()));
+
+        return ReservationMetricsSnapshot.builder()
+                .reservationCount(reservationCount.sum())
+                .audienceCount(audienceCount.sum())
+                .revenue(revenue.sum())
+                .latencyP50(latency.getValueAtPercentile(50))
+                .latencyP99(latency.getValueAtPercentile(99))
+                .latencyP999(latency.getValueAtPercentile(99.9))
+                .latencyMax(latency.getMaxValue())
+                .discountHitsByConditionType(byConditionType)
+                .discountHitsByMovieType(byMovieType)
+                .build();
+    }
+
+    public void exportTo(MetricsExporter exporter) {
+        exporter.export(snapshot());
+    }
+}
@@ -0,0 +1,23 @@
+package com.theater.metrics;
+
+import com.theater.movie.MovieType;
+import com.theater.movie.discount.DiscountCondition;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class ReservationMetricsSnapshot {
+
+    private long reservationCount;
+    private long audienceCount;
+    private long revenue;
+    private long latencyP50;
+    private long latencyP99;
+    private long latencyP999;
+    private long latencyMax;
+    private Map<Class<? extends DiscountCondition>, Long> discountHitsByConditionType;
+    private Map<MovieType, Long> discountHitsByMovieType;
+}
@@ -1,47 +1,92 @@
 package com.theater.money;
 
-import lombok.Getter;
-import lombok.Setter;
+import lombok.EqualsAndHashCode;
 
 import java.math.BigDecimal;
 
-@Getter
-@Setter
+/**
+ * 금액을 1/100 원 단위로 스케일한 long 으로 보관하는 고정소수점 Money.
+ * times(double) 의 결과는 1/100 원 단위에서 HALF_UP 으로 반올림한다.
+ */
+@EqualsAndHashCode
 public class Money {
 
-    public static final Money ZERO = Money.wons(0);
+    public static final int SCALE = 2;
+    private static final long UNIT = 100L;
 
-    private final BigDecimal amount;
+    public static final Money ZERO = new Money(0L);
+
+    private final long amount;
 
     public static Money wons(long amount) {
-        return new Money(BigDecimal.valueOf(amount));
+        if (amount == 0L) {
+            return ZERO;
+        }
+        return new Money(Math.multiplyExact(amount, UNIT));
     }
 
     public static Money wons(double amount) {
-        return new Money(BigDecimal.valueOf(amount));
+        return scaled(round(amount * UNIT));
+    }
+
+    public static Money scaled(long scaledAmount) {
+        if (scaledAmount == 0L) {
+            return ZERO;
+        }
+        return new Money(scaledAmount);
     }
 
-    Money(BigDecimal amount) {
+    Money(long amount) {
         this.amount = amount;
     }
 
+    public BigDecimal getAmount() {
+        return BigDecimal.valueOf(amount, SCALE);
+    }
+
+    public long getScaledAmount() {
+        return amount;
+    }
+
     public Money plus(Money amount) {
-        return new Money(this.amount.add(amount.amount));
+        if (amount.amount == 0L) {
+            return this;
+        }
+        return scaled(Math.addExact(this.amount, amount.amount));
     }
 
     public Money minus(Money amount) {
-        return new Money(this.amount.subtract(amount.amount));
+        if (amount.amount == 0L) {
+            return this;
+        }
+        return scaled(Math.subtractExact(this.amount, amount.amount));
     }
 
     public Money times(double percent) {
-        return new Money(this.amount.multiply(BigDecimal.valueOf(percent)));
+        if (percent == 1.0) {
+            return this;
+        }
+        return scaled(round(this.amount * percent));
     }
 
     public boolean isLessThan(Money other) {
-        return amount.compareTo(other.amount) < 0;
+        return amount < other.amount;
     }
 
     public boolean isGreaterThanOrEqual(Money other) {
-        return amount.compareTo(other.amount) >= 0;
+        return amount >= other.amount;
+    }
+
+    @Override
+    public String toString() {
+        return getAmount().toPlainString();
+    }
+
+    private static long round(double scaledAmount) {
+        if (Double.isNaN(scaledAmount) || Double.isInfinite(scaledAmount)
+                || Math.abs(scaledAmount) >= Long.MAX_VALUE) {
+            throw new ArithmeticException("Money overflow: " + scaledAmount);
+        }
+        return scaledAmount < 0 ? -Math.round(-scaledAmount) : Math.round(scaledAmount);
     }
 }
@@ -1,4 +1,52 @@
 package com.theater.movie;
 
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분 단위 상영 시간.
+ */
+@EqualsAndHashCode
 public class Duration {
+
+    public static final Duration ZERO = new Duration(0L);
+
+    private final long minutes;
+
+    public static Duration minutes(long minutes) {
+        if (minutes < 0) {
+            throw new IllegalArgumentException("minutes must not be negative: " + minutes);
+        }
+        return minutes == 0L ? ZERO : new Duration(minutes);
+    }
+
+    public static Duration hours(long hours, long minutes) {
+        return minutes(Math.addExact(Math.multiplyExact(hours, 60L), minutes));
+    }
+
+    private Duration(long minutes) {
+        this.minutes = minutes;
+    }
+
+    public long getMinutes() {
+        return minutes;
+    }
+
+    public long getSeconds() {
+        return minutes * 60L;
+    }
+
+    public LocalDateTime addTo(LocalDateTime start) {
+        return start.plusMinutes(minutes);
+    }
+
+    public java.time.Duration toJavaDuration() {
+        return java.time.Duration.ofMinutes(minutes);
+    }
+
+    @Override
+    public String toString() {
+        return minutes + "m";
+    }
 }
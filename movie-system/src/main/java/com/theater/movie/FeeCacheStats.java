@@ -0,0 +1,34 @@
+package com.theater.movie;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상영별 요금 캐시의 적중/미적중 횟수.
+ */
+public class FeeCacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
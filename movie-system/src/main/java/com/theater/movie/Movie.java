@@ -7,55 +7,118 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
+/**
+ * 요금 관련 설정은 MoviePricing 스냅샷으로 보관하고 바뀔 때마다 원자적으로 교체한다.
+ * 요금 계산은 락 없이 현재 스냅샷 하나만 읽는다.
+ */
 @Getter
 @Setter
-@Builder
 public class Movie {
 
     private String title;
     private Duration runningTime;
-    private Money fee;
-    private List<DiscountCondition> discountConditions;
 
-    private MovieType movieType;
-    private Money discountAmount;
-    private double discountPercent;
+    private final AtomicReference<MoviePricing> pricing;
+    private final FeeCacheStats feeCacheStats = new FeeCacheStats();
 
-    public Money calculateMovieFee(Screening screening) {
-        if (isDiscountable(screening)) {
-            return fee.minus(calculateDiscountAmount());
-        }
-        return fee;
+    /**
+     * version 은 첫 요금 설정 스냅샷의 버전이다. 직렬화된 예매를 복원할 때처럼 기존 버전을 이어받아야 할 때만 지정한다.
+     */
+    @Builder
+    public Movie(String title, Duration runningTime, Money fee, List<DiscountCondition> discountConditions,
+                 MovieType movieType, Money discountAmount, double discountPercent, long version) {
+        this.title = title;
+        this.runningTime = runningTime;
+        this.pricing = new AtomicReference<>(MoviePricing.builder()
+                .version(version)
+                .fee(fee)
+                .discountConditions(discountConditions)
+                .movieType(movieType)
+                .discountAmount(discountAmount)
+                .discountPercent(discountPercent)
+                .build());
     }
 
-    private boolean isDiscountable(Screening screening) {
-        return discountConditions.stream()
-                .anyMatch(condition -> condition.isSatisfiedBy(screening));
+    public MoviePricing getPricing() {
+        return pricing.get();
     }
 
-    private Money calculateDiscountAmount() {
-        switch (movieType) {
-            case AMOUNT_DISCOUNT:
-                return calculateAmountDiscountAmount();
-            case PERCENT_DISCOUNT:
-                return calculatePercentDiscountAmount();
-            case NONE_DISCOUNT:
-                return calculateNoneDiscountAmount();
+    /**
+     * 여러 요금 설정을 한 번에 바꾼다. 다른 스레드는 바뀌기 전이나 바뀐 후의 설정만 보게 된다.
+     */
+    public MoviePricing updatePricing(UnaryOperator<MoviePricing.MoviePricingBuilder> update) {
+        while (true) {
+            MoviePricing current = pricing.get();
+            MoviePricing next = update.apply(current.toBuilder())
+                    .version(current.getVersion() + 1)
+                    .build();
+            if (pricing.compareAndSet(current, next)) {
+                return next;
+            }
         }
-        throw new IllegalArgumentException();
     }
 
-    private Money calculateAmountDiscountAmount() {
-        return discountAmount;
+    public long getVersion() {
+        return getPricing().getVersion();
+    }
+
+    public Money getFee() {
+        return getPricing().getFee();
+    }
+
+    public List<DiscountCondition> getDiscountConditions() {
+        return getPricing().getDiscountConditions();
+    }
+
+    public MovieType getMovieType() {
+        return getPricing().getMovieType();
+    }
+
+    public Money getDiscountAmount() {
+        return getPricing().getDiscountAmount();
+    }
+
+    public double getDiscountPercent() {
+        return getPricing().getDiscountPercent();
+    }
+
+    public void setFee(Money fee) {
+        updatePricing(pricing -> pricing.fee(fee));
+    }
+
+    public void setDiscountConditions(List<DiscountCondition> discountConditions) {
+        updatePricing(pricing -> pricing.discountConditions(discountConditions));
+    }
+
+    public void setMovieType(MovieType movieType) {
+        updatePricing(pricing -> pricing.movieType(movieType));
+    }
+
+    public void setDiscountAmount(Money discountAmount) {
+        updatePricing(pricing -> pricing.discountAmount(discountAmount));
+    }
+
+    public void setDiscountPercent(double discountPercent) {
+        updatePricing(pricing -> pricing.discountPercent(discountPercent));
+    }
+
+    public Money calculateMovieFee(Screening screening) {
+        return getPricing().calculateMovieFee(screening);
     }
 
-    private Money calculatePercentDiscountAmount() {
-        return fee.times(discountPercent);
+    /**
+     * 상영 목록의 1인 요금을 Money.getScaledAmount 단위의 배열로 한꺼번에 계산한다.
+     */
+    public long[] calculateMovieFees(Collection<Screening> screenings) {
+        return getPricing().calculateMovieFees(screenings);
     }
 
-    private Money calculateNoneDiscountAmount() {
-        return Money.ZERO;
+    public boolean isDiscountable(Screening screening) {
+        return getPricing().isDiscountable(screening);
     }
 }
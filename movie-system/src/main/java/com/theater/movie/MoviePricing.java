@@ -0,0 +1,117 @@
+package com.theater.movie;
+
+import com.theater.money.Money;
+import com.theater.movie.discount.DiscountCondition;
+import com.theater.movie.discount.DiscountRules;
+import com.theater.screening.Screening;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 영화 요금 설정의 불변 스냅샷.
+ * Movie 는 요금 설정이 바뀔 때마다 새 스냅샷을 만들어 통째로 교체하므로,
+ * 한 스냅샷으로 계산한 요금은 항상 한 시점의 설정만 반영한다.
+ */
+@Getter
+public final class MoviePricing {
+
+    static final int PARALLEL_PRICING_THRESHOLD = 4096;
+
+    private final long version;
+    private final Money fee;
+    private final List<DiscountCondition> discountConditions;
+    private final MovieType movieType;
+    private final Money discountAmount;
+    private final double discountPercent;
+
+    @Getter(AccessLevel.NONE)
+    private final DiscountRules discountRules;
+
+    @Builder(toBuilder = true)
+    private MoviePricing(long version, Money fee, List<DiscountCondition> discountConditions,
+                         MovieType movieType, Money discountAmount, double discountPercent) {
+        this.version = version;
+        this.fee = fee;
+        this.discountConditions = discountConditions == null ? List.of() : List.copyOf(discountConditions);
+        this.movieType = movieType;
+        this.discountAmount = discountAmount;
+        this.discountPercent = discountPercent;
+        this.discountRules = DiscountRules.compile(this.discountConditions);
+    }
+
+    /**
+     * 상영의 1인 요금. 할인 후 요금에 상영의 가격 배수를 곱한다.
+     */
+    public Money calculateMovieFee(Screening screening) {
+        Money baseFee = isDiscountable(screening) ? calculateDiscountedFee() : fee;
+        return baseFee.times(screening.getPriceMultiplier());
+    }
+
+    public Money calculateDiscountedFee() {
+        return fee.minus(calculateDiscountAmount());
+    }
+
+    /**
+     * 상영 목록의 1인 요금을 Money.getScaledAmount 단위의 배열로 한꺼번에 계산한다.
+     * 결과는 상영마다 calculateMovieFee 를 호출한 것과 같으며(가격 배수 포함), 상영이 많으면 병렬로 할인 여부를 평가한다.
+     */
+    public long[] calculateMovieFees(Collection<Screening> screenings) {
+        Screening[] targets = screenings.toArray(new Screening[0]);
+        boolean[] discountable = new boolean[targets.length];
+        IntStream indexes = IntStream.range(0, targets.length);
+        if (targets.length >= PARALLEL_PRICING_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> discountable[i] = discountRules.isSatisfiedBy(targets[i]));
+
+        long[] fees = new long[targets.length];
+        long fullFee = fee.getScaledAmount();
+        Long discountedFee = null;
+        for (int i = 0; i < targets.length; i++) {
+            if (discountable[i] && discountedFee == null) {
+                discountedFee = calculateDiscountedFee().getScaledAmount();
+            }
+            long baseFee = discountable[i] ? discountedFee : fullFee;
+            double priceMultiplier = targets[i].getPriceMultiplier();
+            fees[i] = priceMultiplier == 1.0 ? baseFee : Money.scaled(baseFee).times(priceMultiplier).getScaledAmount();
+        }
+        return fees;
+    }
+
+    public boolean isDiscountable(Screening screening) {
+        return discountRules.isSatisfiedBy(screening);
+    }
+
+    public Class<? extends DiscountCondition> findMatchedConditionType(Screening screening) {
+        return discountRules.findMatchedConditionType(screening);
+    }
+
+    private Money calculateDiscountAmount() {
+        switch (movieType) {
+            case AMOUNT_DISCOUNT:
+                return calculateAmountDiscountAmount();
+            case PERCENT_DISCOUNT:
+                return calculatePercentDiscountAmount();
+            case NONE_DISCOUNT:
+                return calculateNoneDiscountAmount();
+        }
+        throw new IllegalArgumentException();
+    }
+
+    private Money calculateAmountDiscountAmount() {
+        return discountAmount;
+    }
+
+    private Money calculatePercentDiscountAmount() {
+        return fee.times(discountPercent);
+    }
+
+    private Money calculateNoneDiscountAmount() {
+        return Money.ZERO;
+    }
+}
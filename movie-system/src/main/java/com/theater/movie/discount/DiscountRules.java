@@ -0,0 +1,162 @@
+package com.theater.movie.discount;
+
+import com.theater.screening.Screening;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 영화의 할인 조건 목록을 한 번 컴파일해 둔 평가기.
+ * 순번 조건은 순번 비트셋으로(MAX_BITSET_SEQUENCE 이상의 큰 순번은 정렬된 배열로), 기간 조건은 요일별로 병합·정렬된 구간 테이블로 바꿔서
+ * 상영 한 건을 평가할 때 객체 생성이나 인터페이스 호출 없이 판단한다.
+ * 두 종류가 아닌 조건은 기존처럼 isSatisfiedBy 로 평가한다.
+ */
+public final class DiscountRules {
+
+    private static final int DAYS_OF_WEEK = 7;
+    private static final long[] NO_INTERVALS = new long[0];
+    static final int MAX_BITSET_SEQUENCE = 1 << 16;
+
+    public static final DiscountRules EMPTY = new DiscountRules(new long[0], new int[0], emptyTable(), emptyTable(), new DiscountCondition[0]);
+
+    private final long[] sequenceBits;
+    private final int[] largeSequences;
+    private final long[][] periodStarts;
+    private final long[][] periodEnds;
+    private final boolean hasPeriods;
+    private final DiscountCondition[] otherConditions;
+
+    private DiscountRules(long[] sequenceBits, int[] largeSequences, long[][] periodStarts, long[][] periodEnds,
+                          DiscountCondition[] otherConditions) {
+        this.sequenceBits = sequenceBits;
+        this.largeSequences = largeSequences;
+        this.periodStarts = periodStarts;
+        this.periodEnds = periodEnds;
+        this.hasPeriods = Arrays.stream(periodStarts).anyMatch(starts -> starts.length > 0);
+        this.otherConditions = otherConditions;
+    }
+
+    public static DiscountRules compile(List<? extends DiscountCondition> conditions) {
+        if (conditions == null || conditions.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] sequenceBits = new long[0];
+        List<Integer> largeSequences = new ArrayList<>();
+        List<List<long[]>> periods = new ArrayList<>(DAYS_OF_WEEK);
+        for (int day = 0; day < DAYS_OF_WEEK; day++) {
+            periods.add(new ArrayList<>());
+        }
+        List<DiscountCondition> others = new ArrayList<>();
+
+        for (DiscountCondition condition : conditions) {
+            if (condition instanceof SequenceCondition && ((SequenceCondition) condition).getSequence() >= MAX_BITSET_SEQUENCE) {
+                largeSequences.add(((SequenceCondition) condition).getSequence());
+            } else if (condition instanceof SequenceCondition && ((SequenceCondition) condition).getSequence() >= 0) {
+                int sequence = ((SequenceCondition) condition).getSequence();
+                int word = sequence >>> 6;
+                if (word >= sequenceBits.length) {
+                    sequenceBits = Arrays.copyOf(sequenceBits, word + 1);
+                }
+                sequenceBits[word] |= 1L << sequence;
+            } else if (condition instanceof PeriodCondition) {
+                PeriodCondition period = (PeriodCondition) condition;
+                long start = period.getStartTime().toNanoOfDay();
+                long end = period.getEndTime().toNanoOfDay();
+                if (start <= end) {
+                    periods.get(period.getDayOfWeek().ordinal()).add(new long[]{start, end});
+                }
+            } else {
+                others.add(condition);
+            }
+        }
+
+        long[][] periodStarts = new long[DAYS_OF_WEEK][];
+        long[][] periodEnds = new long[DAYS_OF_WEEK][];
+        for (int day = 0; day < DAYS_OF_WEEK; day++) {
+            List<long[]> merged = merge(periods.get(day));
+            periodStarts[day] = new long[merged.size()];
+            periodEnds[day] = new long[merged.size()];
+            for (int i = 0; i < merged.size(); i++) {
+                periodStarts[day][i] = merged.get(i)[0];
+                periodEnds[day][i] = merged.get(i)[1];
+            }
+        }
+
+        int[] sortedLargeSequences = largeSequences.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        return new DiscountRules(sequenceBits, sortedLargeSequences, periodStarts, periodEnds, others.toArray(new DiscountCondition[0]));
+    }
+
+    public boolean isSatisfiedBy(Screening screening) {
+        return findMatchedConditionType(screening) != null;
+    }
+
+    /**
+     * 상영이 만족하는 할인 조건의 종류(클래스)를 돌려준다. 만족하는 조건이 없으면 null 이다.
+     */
+    public Class<? extends DiscountCondition> findMatchedConditionType(Screening screening) {
+        if (matchSequence(screening.getSequence())) {
+            return SequenceCondition.class;
+        }
+        if (matchPeriod(screening.getWhenScreened())) {
+            return PeriodCondition.class;
+        }
+        return matchOthers(screening);
+    }
+
+    private boolean matchSequence(int sequence) {
+        if (sequence >= MAX_BITSET_SEQUENCE) {
+            return Arrays.binarySearch(largeSequences, sequence) >= 0;
+        }
+        int word = sequence >>> 6;
+        return sequence >= 0 && word < sequenceBits.length && (sequenceBits[word] & (1L << sequence)) != 0;
+    }
+
+    private boolean matchPeriod(LocalDateTime whenScreened) {
+        if (!hasPeriods) {
+            return false;
+        }
+        long[] starts = periodStarts[whenScreened.getDayOfWeek().ordinal()];
+        if (starts.length == 0) {
+            return false;
+        }
+        long time = whenScreened.toLocalTime().toNanoOfDay();
+        int index = Arrays.binarySearch(starts, time);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return index >= 0 && periodEnds[whenScreened.getDayOfWeek().ordinal()][index] >= time;
+    }
+
+    private Class<? extends DiscountCondition> matchOthers(Screening screening) {
+        for (DiscountCondition condition : otherConditions) {
+            if (condition.isSatisfiedBy(screening)) {
+                return condition.getClass();
+            }
+        }
+        return null;
+    }
+
+    private static List<long[]> merge(List<long[]> intervals) {
+        intervals.sort(Comparator.comparingLong(interval -> interval[0]));
+        List<long[]> merged = new ArrayList<>();
+        for (long[] interval : intervals) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && interval[0] <= last[1]) {
+                last[1] = Math.max(last[1], interval[1]);
+            } else {
+                merged.add(new long[]{interval[0], interval[1]});
+            }
+        }
+        return merged;
+    }
+
+    private static long[][] emptyTable() {
+        long[][] table = new long[DAYS_OF_WEEK][];
+        Arrays.fill(table, NO_INTERVALS);
+        return table;
+    }
+}
@@ -0,0 +1,79 @@
+package com.theater.pricing;
+
+import com.theater.screening.Screening;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 등록된 상영의 가격 배수를 주기적으로 다시 계산해 Screening.priceMultiplier 에 써 둔다.
+ * 예매 경로는 미리 계산된 배수를 읽기만 하므로 정책 평가 비용이 예매 지연에 더해지지 않는다.
+ */
+public class DynamicPricingEngine implements AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(DynamicPricingEngine.class.getName());
+
+    private final DynamicPricingPolicy policy;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+    private final Set<Screening> screenings = ConcurrentHashMap.newKeySet();
+
+    public DynamicPricingEngine(DynamicPricingPolicy policy, Clock clock) {
+        this.policy = policy;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dynamic-pricing");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void register(Screening screening) {
+        screenings.add(screening);
+    }
+
+    /**
+     * 등록을 해제하고 배수를 1 로 되돌린다.
+     */
+    public void unregister(Screening screening) {
+        if (screenings.remove(screening)) {
+            screening.setPriceMultiplier(1.0);
+        }
+    }
+
+    public void start(Duration period) {
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        scheduler.scheduleAtFixedRate(this::recompute, 0L, period.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 등록된 모든 상영의 배수를 지금 다시 계산한다. 정책이 실패한 상영은 실패를 기록하고 기존 배수를 유지한다.
+     */
+    public void recompute() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (Screening screening : screenings) {
+            try {
+                double multiplier = policy.priceMultiplierOf(screening, now);
+                if (multiplier != screening.getPriceMultiplier()) {
+                    screening.setPriceMultiplier(multiplier);
+                }
+            } catch (RuntimeException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "price multiplier of screening " + screening.getId()
+                        + " could not be recomputed, keeping " + screening.getPriceMultiplier(), e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
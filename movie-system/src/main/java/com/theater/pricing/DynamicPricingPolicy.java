@@ -0,0 +1,14 @@
+package com.theater.pricing;
+
+import com.theater.screening.Screening;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상영의 현재 상태로 가격 배수를 정한다. DynamicPricingEngine 이 백그라운드에서만 호출한다.
+ */
+@FunctionalInterface
+public interface DynamicPricingPolicy {
+
+    double priceMultiplierOf(Screening screening, LocalDateTime now);
+}
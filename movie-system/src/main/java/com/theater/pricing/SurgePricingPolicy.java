@@ -0,0 +1,44 @@
+package com.theater.pricing;
+
+import com.theater.screening.Screening;
+import com.theater.screening.SeatInventory;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 좌석 점유율과 상영 시작까지 남은 시간으로 단계별 배수를 고른다. 여러 단계가 해당하면 가장 큰 배수를 쓰고,
+ * 해당하는 단계가 없거나 좌석 수 제한이 없는 상영은 1 이다.
+ */
+public class SurgePricingPolicy implements DynamicPricingPolicy {
+
+    private final List<SurgeTier> tiers;
+
+    public SurgePricingPolicy(List<SurgeTier> tiers) {
+        for (SurgeTier tier : tiers) {
+            if (!(tier.getMultiplier() > 0.0)) {
+                throw new IllegalArgumentException("surge multiplier must be positive: " + tier.getMultiplier());
+            }
+        }
+        this.tiers = List.copyOf(tiers);
+    }
+
+    @Override
+    public double priceMultiplierOf(Screening screening, LocalDateTime now) {
+        SeatInventory seatInventory = screening.getSeatInventory();
+        if (seatInventory.isUnlimited() || seatInventory.getCapacity() == 0) {
+            return 1.0;
+        }
+        double occupancy = (double) seatInventory.getReserved() / seatInventory.getCapacity();
+        long minutesToShowtime = Math.max(0L, ChronoUnit.MINUTES.between(now, screening.getWhenScreened()));
+
+        double multiplier = 1.0;
+        for (SurgeTier tier : tiers) {
+            if (tier.appliesTo(occupancy, minutesToShowtime)) {
+                multiplier = Math.max(multiplier, tier.getMultiplier());
+            }
+        }
+        return multiplier;
+    }
+}
@@ -0,0 +1,21 @@
+package com.theater.pricing;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 좌석 점유율이 minOccupancy 이상이고 상영 시작까지 withinMinutes 분 이내일 때 적용하는 가격 배수.
+ * withinMinutes 가 0 이면 시간과 관계없이 점유율만 본다.
+ */
+@Getter
+@Builder
+public class SurgeTier {
+
+    private final double minOccupancy;
+    private final long withinMinutes;
+    private final double multiplier;
+
+    boolean appliesTo(double occupancy, long minutesToShowtime) {
+        return occupancy >= minOccupancy && (withinMinutes == 0 || minutesToShowtime <= withinMinutes);
+    }
+}
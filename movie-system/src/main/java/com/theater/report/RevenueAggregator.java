@@ -0,0 +1,122 @@
+package com.theater.report;
+
+import com.theater.movie.MovieType;
+import com.theater.reservation.Reservation;
+import com.theater.reservation.ReservationListener;
+import com.theater.screening.Screening;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 예매가 만들어질 때마다 영화·상영일별, 상영일별, 할인 정책별, 상영별 누계를 갱신한다.
+ * 조회는 누계 하나를 읽는 것으로 끝나며, 여러 작업자가 따로 모은 누계는 merge 로 합친다.
+ * 영화는 제목으로, 상영은 Screening.getId 로 구분한다.
+ * 할인 정책은 영화의 현재 설정이 아니라 예매 요금을 계산한 스냅샷의 값을 쓰므로 예매 후 요금 설정이 바뀌어도 누계가 옮겨 가지 않는다.
+ */
+public class RevenueAggregator implements ReservationListener {
+
+    private final Map<MovieDay, RevenueTotals> byMovieDay = new ConcurrentHashMap<>();
+    private final Map<LocalDate, RevenueTotals> byDay = new ConcurrentHashMap<>();
+    private final Map<MovieType, RevenueTotals> byMovieType = new EnumMap<>(MovieType.class);
+    private final Map<Long, RevenueTotals> byScreening = new ConcurrentHashMap<>();
+
+    public RevenueAggregator() {
+        for (MovieType movieType : MovieType.values()) {
+            byMovieType.put(movieType, new RevenueTotals());
+        }
+    }
+
+    @Override
+    public void onReserved(Reservation reservation) {
+        Screening screening = reservation.getScreening();
+        LocalDate day = screening.getWhenScreened().toLocalDate();
+        long revenue = reservation.getFee().getScaledAmount();
+        int audience = reservation.getAudienceCount();
+
+        totals(byMovieDay, new MovieDay(screening.getMovie().getTitle(), day)).add(1, audience, revenue);
+        totals(byDay, day).add(1, audience, revenue);
+        totals(byScreening, screening.getId()).add(1, audience, revenue);
+        MovieType movieType = reservation.getScreeningFee() == null
+                ? screening.getMovie().getMovieType()
+                : reservation.getScreeningFee().getPricing().getMovieType();
+        if (movieType != null) {
+            byMovieType.get(movieType).add(1, audience, revenue);
+        }
+    }
+
+    public RevenueTotals revenueOf(String title, LocalDate day) {
+        return byMovieDay.getOrDefault(new MovieDay(title, day), new RevenueTotals());
+    }
+
+    public RevenueTotals revenueOf(LocalDate day) {
+        return byDay.getOrDefault(day, new RevenueTotals());
+    }
+
+    public RevenueTotals revenueOf(MovieType movieType) {
+        return byMovieType.get(movieType);
+    }
+
+    public RevenueTotals revenueOf(Screening screening) {
+        return byScreening.getOrDefault(screening.getId(), new RevenueTotals());
+    }
+
+    /**
+     * 상영의 좌석 점유율(0~1). 좌석 수 제한이 없는 상영은 0 이다.
+     */
+    public double occupancyOf(Screening screening) {
+        if (screening.getSeatInventory().isUnlimited() || screening.getSeatInventory().getCapacity() == 0) {
+            return 0.0;
+        }
+        return (double) revenueOf(screening).getAudienceCount() / screening.getSeatInventory().getCapacity();
+    }
+
+    /**
+     * 다른 작업자가 모은 누계를 이 누계에 더한다.
+     */
+    public void merge(RevenueAggregator other) {
+        other.byMovieDay.forEach((key, totals) -> totals(byMovieDay, key).merge(totals));
+        other.byDay.forEach((key, totals) -> totals(byDay, key).merge(totals));
+        other.byScreening.forEach((key, totals) -> totals(byScreening, key).merge(totals));
+        other.byMovieType.forEach((key, totals) -> byMovieType.get(key).merge(totals));
+    }
+
+    private static <K> RevenueTotals totals(Map<K, RevenueTotals> index, K key) {
+        RevenueTotals totals = index.get(key);
+        if (totals == null) {
+            totals = index.computeIfAbsent(key, k -> new RevenueTotals());
+        }
+        return totals;
+    }
+
+    private static final class MovieDay {
+
+        private final String title;
+        private final LocalDate day;
+
+        private MovieDay(String title, LocalDate day) {
+            this.title = title;
+            this.day = day;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MovieDay)) {
+                return false;
+            }
+            MovieDay other = (MovieDay) o;
+            return Objects.equals(title, other.title) && day.equals(other.day);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(title, day);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.theater.report;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예매 건수, 관객 수, 매출(Money.getScaledAmount 단위)의 누계. 다른 누계를 더해 합칠 수 있다.
+ */
+public class RevenueTotals {
+
+    private final LongAdder reservationCount = new LongAdder();
+    private final LongAdder audienceCount = new LongAdder();
+    private final LongAdder revenue = new LongAdder();
+
+    void add(long reservations, long audience, long revenue) {
+        this.reservationCount.add(reservations);
+        this.audienceCount.add(audience);
+        this.revenue.add(revenue);
+    }
+
+    void merge(RevenueTotals other) {
+        add(other.getReservationCount(), other.getAudienceCount(), other.getRevenue());
+    }
+
+    public long getReservationCount() {
+        return reservationCount.sum();
+    }
+
+    public long getAudienceCount() {
+        return audienceCount.sum();
+    }
+
+    public long getRevenue() {
+        return revenue.sum();
+    }
+}
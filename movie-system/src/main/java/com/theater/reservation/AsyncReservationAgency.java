@@ -0,0 +1,114 @@
+package com.theater.reservation;
+
+import com.theater.customer.Customer;
+import com.theater.screening.Screening;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReservationAgency 를 실행기 위에서 돌려 CompletableFuture 로 결과를 돌려주는 예매 창구.
+ * 동시에 처리 중인 예매 수를 maxInFlight 로 제한하고, 한도를 넘으면 admissionTimeout 만큼 기다린 뒤 거절한다.
+ */
+public class AsyncReservationAgency implements AutoCloseable {
+
+    private final ReservationAgency reservationAgency;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final Semaphore admission;
+    private final long admissionTimeoutNanos;
+    private final ReservationStageStats stageStats = new ReservationStageStats();
+
+    public AsyncReservationAgency(ReservationAgency reservationAgency, Executor executor, int maxInFlight, Duration admissionTimeout) {
+        this(reservationAgency, executor, false, maxInFlight, admissionTimeout);
+    }
+
+    private AsyncReservationAgency(ReservationAgency reservationAgency, Executor executor, boolean ownsExecutor,
+                                   int maxInFlight, Duration admissionTimeout) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        this.reservationAgency = reservationAgency;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.admission = new Semaphore(maxInFlight);
+        this.admissionTimeoutNanos = admissionTimeout.toNanos();
+    }
+
+    /**
+     * 가상 스레드를 쓸 수 있는 JDK 에서는 요청마다 가상 스레드를, 아니면 코어 수만큼의 스레드 풀을 쓴다.
+     */
+    public static AsyncReservationAgency withDefaultExecutor(ReservationAgency reservationAgency, int maxInFlight, Duration admissionTimeout) {
+        return new AsyncReservationAgency(reservationAgency, defaultExecutor(), true, maxInFlight, admissionTimeout);
+    }
+
+    public CompletableFuture<Reservation> reserve(Screening screening, Customer customer, int audienceCount) {
+        long admissionStart = System.nanoTime();
+        if (!acquire()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("too many reservations in flight"));
+        }
+        long submitted = System.nanoTime();
+        stageStats.record(ReservationStage.ADMISSION, submitted - admissionStart);
+
+        CompletableFuture<Reservation> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                long started = System.nanoTime();
+                stageStats.record(ReservationStage.QUEUE, started - submitted);
+                try {
+                    future.complete(reservationAgency.reserve(screening, customer, audienceCount));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    stageStats.record(ReservationStage.EXECUTION, System.nanoTime() - started);
+                    admission.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            admission.release();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    public int getAvailablePermits() {
+        return admission.availablePermits();
+    }
+
+    public ReservationStageStats getStageStats() {
+        return stageStats;
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    private boolean acquire() {
+        if (admission.tryAcquire()) {
+            return true;
+        }
+        try {
+            return admissionTimeoutNanos > 0 && admission.tryAcquire(admissionTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static ExecutorService defaultExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.theater.reservation;
 import com.theater.customer.Customer;
 import com.theater.money.Money;
 import com.theater.screening.Screening;
+import com.theater.screening.ScreeningFee;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,4 +17,15 @@ public class Reservation {
     private Screening screening;
     private Money fee;
     private int audienceCount;
+    private long pricingVersion;
+
+    /**
+     * 예매 시점의 1인 요금 스냅샷(요금 설정, 할인 결과, 가격 배수). 요금 계산 없이 직접 만든 예매면 null 이다.
+     */
+    private ScreeningFee screeningFee;
+
+    /**
+     * CustomerRegistry 가 발급한 고객 핸들. 등록하지 않고 만든 예매면 CustomerRegistry.NO_HANDLE 이다.
+     */
+    private int customerHandle;
 }
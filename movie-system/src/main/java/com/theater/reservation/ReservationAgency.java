@@ -1,11 +1,184 @@
 package com.theater.reservation;
 
 import com.theater.customer.Customer;
+import com.theater.customer.CustomerRegistry;
+import com.theater.metrics.ReservationMetrics;
 import com.theater.screening.Screening;
+import com.theater.screening.ScreeningFee;
+import com.theater.screening.exception.NotEnoughSeatsException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class ReservationAgency {
 
+    private static final System.Logger LOGGER = System.getLogger(ReservationAgency.class.getName());
+
+    private final ReservationMetrics metrics;
+    private final CustomerRegistry customerRegistry;
+    private final List<ReservationListener> listeners = new CopyOnWriteArrayList<>();
+
+    public ReservationAgency() {
+        this(null);
+    }
+
+    public ReservationAgency(ReservationMetrics metrics) {
+        this(metrics, null);
+    }
+
+    /**
+     * customerRegistry 가 있으면 예매의 고객을 등록된 공유 인스턴스로 바꾸고 고객 핸들을 채운다.
+     */
+    public ReservationAgency(ReservationMetrics metrics, CustomerRegistry customerRegistry) {
+        this.metrics = metrics;
+        this.customerRegistry = customerRegistry;
+    }
+
+    /**
+     * 이 창구에서 만들어지는 예매마다 호출될 리스너를 등록한다.
+     * 리스너가 던진 예외는 기록만 하고 삼키므로 예매 결과와 다른 리스너에는 영향을 주지 않는다.
+     */
+    public void addListener(ReservationListener listener) {
+        listeners.add(listener);
+    }
+
     public Reservation reserve(Screening screening, Customer customer, int audienceCount) {
-        return screening.reserve(customer, audienceCount);
+        long start = System.nanoTime();
+        int customerHandle = register(customer);
+        ScreeningFee screeningFee = screening.calculateScreeningFee();
+        Reservation reservation = screening.reserve(customer, audienceCount, screeningFee);
+        record(reservation, screeningFee, System.nanoTime() - start);
+        return published(reservation, customerHandle);
+    }
+
+    /**
+     * 요청을 상영별로 묶어 상영마다 요금은 한 번만 계산하고 좌석도 한 번에 선점한다.
+     * 한꺼번에 선점하지 못한 상영은 요청 순서대로 하나씩 선점하며, 결과는 요청 순서와 같은 순서로 돌려준다.
+     * 예매를 만들다 실패한 요청은 선점한 좌석을 돌려놓고 실패로 기록하며, 도중에 중단되면 일괄 선점 중 남은 좌석도 돌려놓는다.
+     * 요청마다 기록하는 지연 시간은 묶음 공통 구간(요금 계산, 일괄 선점)을 요청 수로 나눈 몫에 요청 자신의 처리 시간을 더한 값이다.
+     */
+    public List<ReservationResult> reserveAll(List<ReservationRequest> requests) {
+        ReservationResult[] results = new ReservationResult[requests.size()];
+        int[] customerHandles = new int[requests.size()];
+        Map<Screening, List<Integer>> indexesByScreening = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ReservationRequest request = requests.get(i);
+            if (request.getAudienceCount() < 0) {
+                results[i] = ReservationResult.failure(request,
+                        new IllegalArgumentException("seat count must not be negative: " + request.getAudienceCount()));
+                continue;
+            }
+            try {
+                customerHandles[i] = register(request.getCustomer());
+            } catch (RuntimeException e) {
+                results[i] = ReservationResult.failure(request, e);
+                continue;
+            }
+            indexesByScreening.computeIfAbsent(request.getScreening(), screening -> new ArrayList<>()).add(i);
+        }
+
+        indexesByScreening.forEach((screening, indexes) -> reserveAll(screening, indexes, requests, customerHandles, results));
+        return Arrays.asList(results);
+    }
+
+    private void reserveAll(Screening screening, List<Integer> indexes, List<ReservationRequest> requests,
+                            int[] customerHandles, ReservationResult[] results) {
+        long start = System.nanoTime();
+        ScreeningFee screeningFee;
+        try {
+            screeningFee = screening.calculateScreeningFee();
+        } catch (RuntimeException e) {
+            indexes.forEach(index -> results[index] = ReservationResult.failure(requests.get(index), e));
+            return;
+        }
+
+        long totalAudienceCount = 0;
+        for (int index : indexes) {
+            totalAudienceCount += requests.get(index).getAudienceCount();
+        }
+        boolean heldAll = totalAudienceCount <= Integer.MAX_VALUE && screening.tryHold((int) totalAudienceCount);
+        long unconfirmed = heldAll ? totalAudienceCount : 0;
+        long sharedNanos = (System.nanoTime() - start) / indexes.size();
+
+        try {
+            for (int index : indexes) {
+                long requestStart = System.nanoTime();
+                ReservationRequest request = requests.get(index);
+                if (!heldAll && !screening.tryHold(request.getAudienceCount())) {
+                    results[index] = ReservationResult.failure(request, new NotEnoughSeatsException(
+                            request.getAudienceCount() + " seats requested, " + screening.getSeatInventory().getRemaining() + " remaining"));
+                    continue;
+                }
+                unconfirmed -= heldAll ? request.getAudienceCount() : 0;
+                Reservation reservation;
+                try {
+                    reservation = screening.confirm(request.getCustomer(), request.getAudienceCount(), screeningFee);
+                } catch (RuntimeException e) {
+                    screening.release(request.getAudienceCount());
+                    results[index] = ReservationResult.failure(request, e);
+                    continue;
+                }
+                record(reservation, screeningFee, sharedNanos + System.nanoTime() - requestStart);
+                results[index] = ReservationResult.success(request, published(reservation, customerHandles[index]));
+            }
+        } finally {
+            if (unconfirmed > 0) {
+                screening.release((int) unconfirmed);
+            }
+        }
+    }
+
+    public SeatHold hold(Screening screening, int audienceCount) {
+        screening.hold(audienceCount);
+        return new SeatHold(screening, audienceCount);
+    }
+
+    public Reservation reserve(SeatHold hold, Customer customer) {
+        int customerHandle = register(customer);
+        if (!hold.confirm()) {
+            throw new IllegalStateException("seat hold is no longer held");
+        }
+        return published(hold.getScreening().confirm(customer, hold.getAudienceCount()), customerHandle);
+    }
+
+    public void release(SeatHold hold) {
+        if (hold.release()) {
+            hold.getScreening().release(hold.getAudienceCount());
+        }
+    }
+
+    private void record(Reservation reservation, ScreeningFee screeningFee, long latencyNanos) {
+        if (metrics != null) {
+            metrics.record(reservation, screeningFee, latencyNanos);
+        }
+    }
+
+    /**
+     * 좌석을 선점하기 전에 고객을 등록한다. 등록할 수 없는 고객(id 없음)이면 여기서 실패하므로 선점한 좌석이 남지 않는다.
+     */
+    private int register(Customer customer) {
+        if (customerRegistry == null || customer == null) {
+            return CustomerRegistry.NO_HANDLE;
+        }
+        return customerRegistry.register(customer);
+    }
+
+    private Reservation published(Reservation reservation, int customerHandle) {
+        if (customerHandle != CustomerRegistry.NO_HANDLE) {
+            reservation.setCustomerHandle(customerHandle);
+            reservation.setCustomer(customerRegistry.customerOf(customerHandle));
+        }
+        for (ReservationListener listener : listeners) {
+            try {
+                listener.onReserved(reservation);
+            } catch (RuntimeException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "reservation listener " + listener + " failed", e);
+            }
+        }
+        return reservation;
     }
 }
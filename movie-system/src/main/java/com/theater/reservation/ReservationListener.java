@@ -0,0 +1,7 @@
+package com.theater.reservation;
+
+@FunctionalInterface
+public interface ReservationListener {
+
+    void onReserved(Reservation reservation);
+}
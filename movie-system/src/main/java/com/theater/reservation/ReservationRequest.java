@@ -0,0 +1,17 @@
+package com.theater.reservation;
+
+import com.theater.customer.Customer;
+import com.theater.screening.Screening;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ReservationRequest {
+
+    private Screening screening;
+    private Customer customer;
+    private int audienceCount;
+}
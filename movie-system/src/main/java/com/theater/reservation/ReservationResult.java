@@ -0,0 +1,32 @@
+package com.theater.reservation;
+
+import lombok.Getter;
+
+/**
+ * 일괄 예매에서 요청 한 건의 처리 결과. 성공하면 reservation 이, 실패하면 failure 가 채워진다.
+ */
+@Getter
+public class ReservationResult {
+
+    private final ReservationRequest request;
+    private final Reservation reservation;
+    private final RuntimeException failure;
+
+    private ReservationResult(ReservationRequest request, Reservation reservation, RuntimeException failure) {
+        this.request = request;
+        this.reservation = reservation;
+        this.failure = failure;
+    }
+
+    public static ReservationResult success(ReservationRequest request, Reservation reservation) {
+        return new ReservationResult(request, reservation, null);
+    }
+
+    public static ReservationResult failure(ReservationRequest request, RuntimeException failure) {
+        return new ReservationResult(request, null, failure);
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+}
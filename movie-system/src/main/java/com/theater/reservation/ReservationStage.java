@@ -0,0 +1,8 @@
+package com.theater.reservation;
+
+public enum ReservationStage {
+
+    ADMISSION,  // 동시 처리 한도 대기
+    QUEUE,  // 실행기 대기열 대기
+    EXECUTION;  // 요금 계산과 좌석 선점
+}
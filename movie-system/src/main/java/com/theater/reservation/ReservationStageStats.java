@@ -0,0 +1,47 @@
+package com.theater.reservation;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비동기 예매 단계별 소요 시간 누계.
+ */
+public class ReservationStageStats {
+
+    private final Map<ReservationStage, LongAdder> counts = new EnumMap<>(ReservationStage.class);
+    private final Map<ReservationStage, LongAdder> totalNanos = new EnumMap<>(ReservationStage.class);
+    private final Map<ReservationStage, LongAccumulator> maxNanos = new EnumMap<>(ReservationStage.class);
+
+    public ReservationStageStats() {
+        for (ReservationStage stage : ReservationStage.values()) {
+            counts.put(stage, new LongAdder());
+            totalNanos.put(stage, new LongAdder());
+            maxNanos.put(stage, new LongAccumulator(Math::max, 0L));
+        }
+    }
+
+    void record(ReservationStage stage, long nanos) {
+        counts.get(stage).increment();
+        totalNanos.get(stage).add(nanos);
+        maxNanos.get(stage).accumulate(nanos);
+    }
+
+    public long getCount(ReservationStage stage) {
+        return counts.get(stage).sum();
+    }
+
+    public long getTotalNanos(ReservationStage stage) {
+        return totalNanos.get(stage).sum();
+    }
+
+    public long getMaxNanos(ReservationStage stage) {
+        return maxNanos.get(stage).get();
+    }
+
+    public double getAverageNanos(ReservationStage stage) {
+        long count = getCount(stage);
+        return count == 0 ? 0.0 : (double) getTotalNanos(stage) / count;
+    }
+}
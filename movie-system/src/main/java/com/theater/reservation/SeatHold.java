@@ -0,0 +1,43 @@
+package com.theater.reservation;
+
+import com.theater.screening.Screening;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 예매 확정 전까지 선점해 둔 좌석.
+ * 한 번만 확정되거나 해제될 수 있다.
+ */
+@Getter
+public class SeatHold {
+
+    enum State {
+        HELD,
+        CONFIRMED,
+        RELEASED
+    }
+
+    private final Screening screening;
+    private final int audienceCount;
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<State> state = new AtomicReference<>(State.HELD);
+
+    SeatHold(Screening screening, int audienceCount) {
+        this.screening = screening;
+        this.audienceCount = audienceCount;
+    }
+
+    boolean confirm() {
+        return state.compareAndSet(State.HELD, State.CONFIRMED);
+    }
+
+    boolean release() {
+        return state.compareAndSet(State.HELD, State.RELEASED);
+    }
+
+    public boolean isHeld() {
+        return state.get() == State.HELD;
+    }
+}
@@ -0,0 +1,229 @@
+package com.theater.reservation.columnar;
+
+import com.theater.customer.Customer;
+import com.theater.reservation.Reservation;
+import com.theater.screening.Screening;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 예매를 객체 대신 원시 타입 배열 열(column)로 보관하는 저장소.
+ * 고객은 id 로, 상영은 인스턴스로, 요금은 (1인 요금, 요금 설정 버전) 쌍으로 사전 인코딩하고
+ * 관객 수는 byte 로 담아 예매 한 건은 int 3개와 byte 1개(13 byte)만 차지한다.
+ * 같은 id 의 고객은 처음 저장된 Customer 인스턴스 하나로 합쳐지므로 이름이 달라도 처음 것을 돌려준다.
+ * 관객 수가 MAX_INLINE_AUDIENCE_COUNT 를 넘거나 음수인 드문 행만 따로 맵에 담는다.
+ * 한 스레드가 쓰고 읽는 것을 전제로 하며 동기화하지 않는다.
+ */
+public class ColumnarReservationStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    static final int MAX_INLINE_AUDIENCE_COUNT = 254;
+    private static final byte OVERFLOW_AUDIENCE_COUNT = (byte) 0xFF;
+
+    private final Map<String, Integer> customerIndexes = new HashMap<>();
+    private final List<Customer> customers = new ArrayList<>();
+    private final Map<Screening, Integer> screeningIndexes = new IdentityHashMap<>();
+    private final List<Screening> screenings = new ArrayList<>();
+    private final Map<Fare, Integer> fareIndexes = new HashMap<>();
+    private final List<Fare> fares = new ArrayList<>();
+    private final Map<Integer, Integer> overflowAudienceCounts = new HashMap<>();
+
+    private int[] customerColumn = new int[INITIAL_CAPACITY];
+    private int[] screeningColumn = new int[INITIAL_CAPACITY];
+    private int[] fareColumn = new int[INITIAL_CAPACITY];
+    private byte[] audienceCountColumn = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    public int append(Reservation reservation) {
+        if (size == fareColumn.length) {
+            grow();
+        }
+        int row = size++;
+        int audienceCount = reservation.getAudienceCount();
+        customerColumn[row] = customerIndexOf(reservation.getCustomer());
+        screeningColumn[row] = screeningIndexOf(reservation.getScreening());
+        fareColumn[row] = fareIndexOf(Fare.of(reservation.getFee().getScaledAmount(), audienceCount, reservation.getPricingVersion()));
+        if (audienceCount >= 0 && audienceCount <= MAX_INLINE_AUDIENCE_COUNT) {
+            audienceCountColumn[row] = (byte) audienceCount;
+        } else {
+            audienceCountColumn[row] = OVERFLOW_AUDIENCE_COUNT;
+            overflowAudienceCounts.put(row, audienceCount);
+        }
+        return row;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * row 번째 예매를 가리키는 뷰. 같은 뷰 객체를 다른 행에 다시 쓰려면 ReservationView.moveTo 를 사용한다.
+     */
+    public ReservationView view(int row) {
+        return new ReservationView(this).moveTo(row);
+    }
+
+    public void forEach(Consumer<ReservationView> action) {
+        ReservationView view = new ReservationView(this);
+        for (int row = 0; row < size; row++) {
+            action.accept(view.moveTo(row));
+        }
+    }
+
+    /**
+     * 전체 매출을 Money.getScaledAmount 단위로 돌려준다.
+     */
+    public long totalRevenue() {
+        long total = 0;
+        for (int row = 0; row < size; row++) {
+            total += fee(row);
+        }
+        return total;
+    }
+
+    public long revenueOf(Screening screening) {
+        Integer index = screeningIndexes.get(screening);
+        if (index == null) {
+            return 0;
+        }
+        long total = 0;
+        for (int row = 0; row < size; row++) {
+            if (screeningColumn[row] == index) {
+                total += fee(row);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 상영 사전 순서대로 상영별 매출을 모은다. 결과의 i 번째 값은 screeningAt(i) 의 매출이다.
+     */
+    public long[] revenueByScreening() {
+        long[] revenue = new long[screenings.size()];
+        for (int row = 0; row < size; row++) {
+            revenue[screeningColumn[row]] += fee(row);
+        }
+        return revenue;
+    }
+
+    public Screening screeningAt(int screeningIndex) {
+        return screenings.get(screeningIndex);
+    }
+
+    Customer customer(int row) {
+        return customers.get(customerColumn[row]);
+    }
+
+    Screening screening(int row) {
+        return screenings.get(screeningColumn[row]);
+    }
+
+    long fee(int row) {
+        return fares.get(fareColumn[row]).feeOf(audienceCount(row));
+    }
+
+    int audienceCount(int row) {
+        byte audienceCount = audienceCountColumn[row];
+        return audienceCount == OVERFLOW_AUDIENCE_COUNT ? overflowAudienceCounts.get(row) : Byte.toUnsignedInt(audienceCount);
+    }
+
+    long pricingVersion(int row) {
+        return fares.get(fareColumn[row]).pricingVersion;
+    }
+
+    void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("row " + row + ", size " + size);
+        }
+    }
+
+    private int customerIndexOf(Customer customer) {
+        String id = customer == null ? null : customer.getId();
+        Integer index = customerIndexes.get(id);
+        if (index == null) {
+            index = customers.size();
+            customers.add(customer);
+            customerIndexes.put(id, index);
+        }
+        return index;
+    }
+
+    private int screeningIndexOf(Screening screening) {
+        Integer index = screeningIndexes.get(screening);
+        if (index == null) {
+            index = screenings.size();
+            screenings.add(screening);
+            screeningIndexes.put(screening, index);
+        }
+        return index;
+    }
+
+    private int fareIndexOf(Fare fare) {
+        Integer index = fareIndexes.get(fare);
+        if (index == null) {
+            index = fares.size();
+            fares.add(fare);
+            fareIndexes.put(fare, index);
+        }
+        return index;
+    }
+
+    private void grow() {
+        int capacity = fareColumn.length * 2;
+        customerColumn = Arrays.copyOf(customerColumn, capacity);
+        screeningColumn = Arrays.copyOf(screeningColumn, capacity);
+        fareColumn = Arrays.copyOf(fareColumn, capacity);
+        audienceCountColumn = Arrays.copyOf(audienceCountColumn, capacity);
+    }
+
+    /**
+     * 요금 사전의 항목. 예매 요금이 관객 수로 나누어떨어지면 1인 요금을, 아니면(관객 수 0 포함) 총 요금을 담는다.
+     */
+    private static final class Fare {
+
+        private final long amount;
+        private final boolean perSeat;
+        private final long pricingVersion;
+
+        private Fare(long amount, boolean perSeat, long pricingVersion) {
+            this.amount = amount;
+            this.perSeat = perSeat;
+            this.pricingVersion = pricingVersion;
+        }
+
+        private static Fare of(long fee, int audienceCount, long pricingVersion) {
+            if (audienceCount > 0 && fee % audienceCount == 0) {
+                return new Fare(fee / audienceCount, true, pricingVersion);
+            }
+            return new Fare(fee, false, pricingVersion);
+        }
+
+        private long feeOf(int audienceCount) {
+            return perSeat ? amount * audienceCount : amount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Fare)) {
+                return false;
+            }
+            Fare other = (Fare) o;
+            return amount == other.amount && perSeat == other.perSeat && pricingVersion == other.pricingVersion;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(amount, perSeat, pricingVersion);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.theater.reservation.columnar;
+
+import com.theater.customer.Customer;
+import com.theater.money.Money;
+import com.theater.reservation.Reservation;
+import com.theater.screening.Screening;
+
+/**
+ * ColumnarReservationStore 의 한 행을 Reservation 과 같은 getter 로 읽는 플라이웨이트.
+ */
+public class ReservationView {
+
+    private final ColumnarReservationStore store;
+    private int row;
+
+    ReservationView(ColumnarReservationStore store) {
+        this.store = store;
+    }
+
+    public ReservationView moveTo(int row) {
+        store.checkRow(row);
+        this.row = row;
+        return this;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public Customer getCustomer() {
+        return store.customer(row);
+    }
+
+    public Screening getScreening() {
+        return store.screening(row);
+    }
+
+    public Money getFee() {
+        return Money.scaled(store.fee(row));
+    }
+
+    public long getScaledFee() {
+        return store.fee(row);
+    }
+
+    public int getAudienceCount() {
+        return store.audienceCount(row);
+    }
+
+    public long getPricingVersion() {
+        return store.pricingVersion(row);
+    }
+
+    public Reservation toReservation() {
+        return Reservation.builder()
+                .customer(getCustomer())
+                .screening(getScreening())
+                .fee(getFee())
+                .audienceCount(getAudienceCount())
+                .pricingVersion(getPricingVersion())
+                .build();
+    }
+}
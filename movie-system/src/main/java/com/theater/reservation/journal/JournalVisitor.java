@@ -0,0 +1,7 @@
+package com.theater.reservation.journal;
+
+@FunctionalInterface
+public interface JournalVisitor {
+
+    void visit(long screeningId, String customerId, long fee, int audienceCount);
+}
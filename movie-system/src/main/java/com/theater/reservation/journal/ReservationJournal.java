@@ -0,0 +1,262 @@
+package com.theater.reservation.journal;
+
+import com.theater.reservation.Reservation;
+import com.theater.screening.Screening;
+import com.theater.screening.ScreeningCatalog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 예매를 고정 크기(64 byte) 레코드로 덧붙여 기록하는 메모리 매핑 저널.
+ *
+ * <pre>
+ *  0  long  상영 id (Screening.getId)
+ *  8  long  요금 (Money.getScaledAmount)
+ * 16  int   관객 수
+ * 20  short 고객 id 길이 (UTF-8 byte)
+ * 24  byte[32] 고객 id
+ * 56  int   0..55 구간의 CRC32
+ * 60  int   기록 완료 표시
+ * </pre>
+ *
+ * 세그먼트가 가득 차면 다음 세그먼트 파일로 넘어간다.
+ * append 는 매핑된 페이지에 쓰기만 하고, sync 는 여러 스레드의 요청을 한 번의 force 로 묶어 디스크에 반영한다.
+ */
+public class ReservationJournal implements AutoCloseable {
+
+    public static final int RECORD_SIZE = 64;
+    static final int MAX_CUSTOMER_ID_BYTES = 32;
+
+    private static final int CUSTOMER_ID_LENGTH_OFFSET = 20;
+    private static final int CUSTOMER_ID_OFFSET = 24;
+    private static final int CHECKSUM_OFFSET = 56;
+    private static final int MARKER_OFFSET = 60;
+    private static final int COMMITTED = 0x52534A31;
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final Object syncLock = new Object();
+
+    private int segmentIndex;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long appended;
+    private final AtomicLong durable = new AtomicLong();
+
+    private ReservationJournal(Path directory, int recordsPerSegment) {
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+    }
+
+    public static ReservationJournal open(Path directory, int recordsPerSegment) throws IOException {
+        if (recordsPerSegment <= 0) {
+            throw new IllegalArgumentException("recordsPerSegment must be positive: " + recordsPerSegment);
+        }
+        Files.createDirectories(directory);
+        ReservationJournal journal = new ReservationJournal(directory, recordsPerSegment);
+        List<Path> segments = segments(directory);
+        if (segments.isEmpty()) {
+            journal.openSegment(0);
+        } else {
+            Path last = segments.get(segments.size() - 1);
+            journal.openSegment(segmentIndex(last));
+            journal.buffer.position(validLength(journal.buffer));
+        }
+        journal.appended = (long) journal.segmentIndex * recordsPerSegment + journal.buffer.position() / RECORD_SIZE;
+        journal.durable.set(journal.appended);
+        return journal;
+    }
+
+    /**
+     * 레코드를 기록하고 순번을 돌려준다. 디스크 반영은 sync 를 호출해야 보장된다.
+     */
+    public synchronized long append(Reservation reservation) {
+        byte[] customerId = reservation.getCustomer() == null || reservation.getCustomer().getId() == null
+                ? new byte[0]
+                : reservation.getCustomer().getId().getBytes(StandardCharsets.UTF_8);
+        if (customerId.length > MAX_CUSTOMER_ID_BYTES) {
+            throw new IllegalArgumentException("customer id longer than " + MAX_CUSTOMER_ID_BYTES + " bytes");
+        }
+        if (!buffer.hasRemaining()) {
+            rollSegment();
+        }
+
+        int start = buffer.position();
+        buffer.putLong(start, reservation.getScreening().getId());
+        buffer.putLong(start + 8, reservation.getFee().getScaledAmount());
+        buffer.putInt(start + 16, reservation.getAudienceCount());
+        buffer.putShort(start + CUSTOMER_ID_LENGTH_OFFSET, (short) customerId.length);
+        for (int i = 0; i < MAX_CUSTOMER_ID_BYTES; i++) {
+            buffer.put(start + CUSTOMER_ID_OFFSET + i, i < customerId.length ? customerId[i] : 0);
+        }
+        buffer.putInt(start + CHECKSUM_OFFSET, checksum(buffer, start));
+        buffer.putInt(start + MARKER_OFFSET, COMMITTED);
+        buffer.position(start + RECORD_SIZE);
+        return ++appended;
+    }
+
+    /**
+     * sequence 까지의 레코드가 디스크에 반영될 때까지 기다린다.
+     * 먼저 들어온 스레드의 force 가 이미 sequence 를 포함했다면 바로 돌아온다.
+     */
+    public void sync(long sequence) {
+        if (durable.get() >= sequence) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durable.get() >= sequence) {
+                return;
+            }
+            MappedByteBuffer target;
+            long upTo;
+            synchronized (this) {
+                target = buffer;
+                upTo = appended;
+            }
+            target.force();
+            advanceDurable(upTo);
+        }
+    }
+
+    public long commit(Reservation reservation) {
+        long sequence = append(reservation);
+        sync(sequence);
+        return sequence;
+    }
+
+    public long getDurableSequence() {
+        return durable.get();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        advanceDurable(appended);
+        channel.close();
+    }
+
+    /**
+     * 저널을 처음부터 순서대로 읽어 레코드마다 visitor 를 호출한다. 기록이 끝나지 않은 꼬리 레코드에서 멈춘다.
+     */
+    public static void replay(Path directory, JournalVisitor visitor) throws IOException {
+        for (Path segment : segments(directory)) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                int length = validLength(buffer);
+                for (int start = 0; start < length; start += RECORD_SIZE) {
+                    int customerIdLength = buffer.getShort(start + CUSTOMER_ID_LENGTH_OFFSET);
+                    byte[] customerId = new byte[customerIdLength];
+                    for (int i = 0; i < customerIdLength; i++) {
+                        customerId[i] = buffer.get(start + CUSTOMER_ID_OFFSET + i);
+                    }
+                    visitor.visit(buffer.getLong(start), new String(customerId, StandardCharsets.UTF_8),
+                            buffer.getLong(start + 8), buffer.getInt(start + 16));
+                }
+                if (length < buffer.capacity()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 저널을 다시 읽어 상영 id 별 예매 좌석 수를 만든다.
+     */
+    public static Map<Long, Integer> replaySeatCounts(Path directory) throws IOException {
+        Map<Long, Integer> seatCounts = new HashMap<>();
+        replay(directory, (screeningId, customerId, fee, audienceCount) -> seatCounts.merge(screeningId, audienceCount, Integer::sum));
+        return seatCounts;
+    }
+
+    /**
+     * 저널의 좌석 수를 catalog 에 있는 상영의 좌석 재고에 다시 선점한다. 재시작 직후 예매를 받기 전에 한 번 호출한다.
+     * catalog 에 없는 상영의 좌석 수는 돌려주며, 정원을 넘는 좌석 수가 기록된 상영이 있으면 IllegalStateException 을 던진다.
+     */
+    public static Map<Long, Integer> restoreSeats(Path directory, ScreeningCatalog catalog) throws IOException {
+        Map<Long, Integer> unknown = new HashMap<>();
+        for (Map.Entry<Long, Integer> seatCount : replaySeatCounts(directory).entrySet()) {
+            Optional<Screening> screening = catalog.findById(seatCount.getKey());
+            if (screening.isEmpty()) {
+                unknown.put(seatCount.getKey(), seatCount.getValue());
+            } else if (!screening.get().tryHold(seatCount.getValue())) {
+                throw new IllegalStateException("journal holds " + seatCount.getValue() + " seats for screening "
+                        + seatCount.getKey() + ", " + screening.get().getSeatInventory().getRemaining() + " remaining");
+            }
+        }
+        return unknown;
+    }
+
+    private void rollSegment() {
+        try {
+            buffer.force();
+            advanceDurable(appended);
+            channel.close();
+            openSegment(segmentIndex + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * sync 와 rollSegment 가 서로 다른 락에서 부르므로 더 큰 값으로만 바꾼다.
+     */
+    private void advanceDurable(long upTo) {
+        durable.accumulateAndGet(upTo, Math::max);
+    }
+
+    private void openSegment(int index) throws IOException {
+        Path path = directory.resolve(String.format("%08d%s", index, SEGMENT_SUFFIX));
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE);
+        this.segmentIndex = index;
+    }
+
+    private static int validLength(ByteBuffer buffer) {
+        int start = 0;
+        while (start + RECORD_SIZE <= buffer.capacity()
+                && buffer.getInt(start + MARKER_OFFSET) == COMMITTED
+                && buffer.getInt(start + CHECKSUM_OFFSET) == checksum(buffer, start)) {
+            start += RECORD_SIZE;
+        }
+        return start;
+    }
+
+    private static int checksum(ByteBuffer buffer, int start) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(start).limit(start + CHECKSUM_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static int segmentIndex(Path segment) {
+        String name = segment.getFileName().toString();
+        return Integer.parseInt(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
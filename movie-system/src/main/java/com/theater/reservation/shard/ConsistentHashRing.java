@@ -0,0 +1,40 @@
+package com.theater.reservation.shard;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 샤드마다 가상 노드를 여러 개 두는 일관 해시 링. 샤드가 늘거나 줄어도 일부 키만 다른 샤드로 옮겨간다.
+ */
+public class ConsistentHashRing<T> {
+
+    private final NavigableMap<Long, T> ring = new TreeMap<>();
+
+    public ConsistentHashRing(List<T> shards, int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("at least one shard is required");
+        }
+        for (int shard = 0; shard < shards.size(); shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.put(mix(((long) shard << 32) | node), shards.get(shard));
+            }
+        }
+    }
+
+    public T route(long key) {
+        Map.Entry<Long, T> entry = ring.ceilingEntry(mix(key));
+        return entry == null ? ring.firstEntry().getValue() : entry.getValue();
+    }
+
+    /**
+     * SplitMix64 의 마무리 단계. 비슷한 키도 링 위에 고르게 흩어지게 한다.
+     */
+    static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,39 @@
+package com.theater.reservation.shard;
+
+import com.theater.customer.Customer;
+import com.theater.reservation.Reservation;
+import com.theater.reservation.ReservationAgency;
+import com.theater.screening.Screening;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 전용 스레드 하나가 메일박스의 요청을 차례로 처리하는 샤드.
+ * 이 샤드로 라우팅되는 상영의 좌석과 요금 캐시는 이 스레드만 갱신하므로 서로 경합하지 않는다.
+ */
+public class ReservationShard implements ShardTransport {
+
+    private final ReservationAgency reservationAgency;
+    private final ExecutorService mailbox;
+
+    public ReservationShard(String name, ReservationAgency reservationAgency) {
+        this.reservationAgency = reservationAgency;
+        this.mailbox = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Reservation> reserve(Screening screening, Customer customer, int audienceCount) {
+        return CompletableFuture.supplyAsync(() -> reservationAgency.reserve(screening, customer, audienceCount), mailbox);
+    }
+
+    @Override
+    public void close() {
+        mailbox.shutdown();
+    }
+}
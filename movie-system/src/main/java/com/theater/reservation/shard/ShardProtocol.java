@@ -0,0 +1,35 @@
+package com.theater.reservation.shard;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 소켓 샤드 요청/응답 형식.
+ * 요청: long 상영 id, 고객 id, 고객 이름, int 관객 수
+ * 응답: byte 상태, 성공이면 int 길이 + ReservationCodec 메시지, 실패면 오류 메시지
+ */
+final class ShardProtocol {
+
+    static final byte OK = 0;
+    static final byte NOT_ENOUGH_SEATS = 1;
+    static final byte NO_SCREENING = 2;
+    static final byte FAILED = 3;
+
+    static final int MAX_MESSAGE_LENGTH = 64 * 1024;
+    static final int MAX_ERROR_MESSAGE_LENGTH = 1024;
+
+    private ShardProtocol() {
+    }
+
+    static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,227 @@
+package com.theater.reservation.shard;
+
+import com.theater.codec.ReservationCodec;
+import com.theater.customer.Customer;
+import com.theater.money.Money;
+import com.theater.movie.Duration;
+import com.theater.movie.Movie;
+import com.theater.movie.MovieType;
+import com.theater.reservation.Reservation;
+import com.theater.reservation.ReservationAgency;
+import com.theater.screening.Screening;
+import com.theater.screening.ScreeningCatalog;
+import com.theater.screening.SeatInventory;
+import com.theater.screening.exception.NotEnoughSeatsException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 샤드 하나를 소켓으로 노출한다. 별도 JVM 에서 상영 목록을 가진 채 띄우면 SocketShardTransport 로 접근할 수 있다.
+ * 요청은 연결마다 순서대로 읽어 샤드 메일박스로 넘기므로 좌석 갱신은 여전히 샤드 스레드 하나에서만 일어난다.
+ * close 하면 받아 둔 연결도 모두 닫는다.
+ */
+public class ShardServer implements AutoCloseable {
+
+    private final ScreeningCatalog catalog;
+    private final ReservationShard shard;
+    private final ServerSocket serverSocket;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    public ShardServer(ScreeningCatalog catalog, ReservationShard shard, int port) throws IOException {
+        this(catalog, shard, port, InetAddress.getLoopbackAddress());
+    }
+
+    public ShardServer(ScreeningCatalog catalog, ReservationShard shard, int port, InetAddress bindAddress) throws IOException {
+        this.catalog = catalog;
+        this.shard = shard;
+        this.serverSocket = new ServerSocket(port, 50, bindAddress);
+    }
+
+    /**
+     * 샤드 하나를 별도 프로세스로 띄운다. 인자는 key=value 형식이다.
+     * port(필수), name(기본 shard-포트), bind(기본 루프백), screenings(기본 1000), first-id(기본 1), capacity(기본 0 = 무제한).
+     * 상영 저장소가 없으므로 id 가 first-id 부터 이어지는 상영 screenings 개를 만들어 등록한다.
+     * 클라이언트는 같은 id 의 Screening 으로 SocketShardTransport 에 요청하면 된다.
+     *
+     * ./gradlew shardServer -PshardArgs="port=7000 name=shard-0 first-id=1 screenings=1000"
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("expected key=value: " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        if (!options.containsKey("port")) {
+            throw new IllegalArgumentException("port is required");
+        }
+        int port = Integer.parseInt(options.get("port"));
+        String name = options.getOrDefault("name", "shard-" + port);
+        InetAddress bindAddress = options.containsKey("bind")
+                ? InetAddress.getByName(options.get("bind"))
+                : InetAddress.getLoopbackAddress();
+        int screenings = Integer.parseInt(options.getOrDefault("screenings", "1000"));
+        long firstId = Long.parseLong(options.getOrDefault("first-id", "1"));
+        int capacity = Integer.parseInt(options.getOrDefault("capacity", "0"));
+        if (screenings <= 0 || firstId <= 0 || capacity < 0) {
+            throw new IllegalArgumentException("screenings and first-id must be positive and capacity must not be negative");
+        }
+
+        ScreeningCatalog catalog = new ScreeningCatalog();
+        LocalDateTime firstShow = LocalDateTime.of(2023, 1, 1, 9, 0);
+        for (int i = 0; i < screenings; i++) {
+            catalog.add(Screening.builder()
+                    .id(firstId + i)
+                    .movie(Movie.builder()
+                            .title("영화" + (i % 50))
+                            .runningTime(Duration.minutes(120))
+                            .fee(Money.wons(10000))
+                            .discountConditions(List.of())
+                            .movieType(MovieType.NONE_DISCOUNT)
+                            .build())
+                    .sequence(i % 10 + 1)
+                    .whenScreened(firstShow.plusMinutes(30L * i))
+                    .auditorium((i % 20 + 1) + "관")
+                    .seatInventory(capacity == 0 ? SeatInventory.unlimited() : SeatInventory.of(capacity))
+                    .build());
+        }
+
+        ReservationShard shard = new ReservationShard(name, new ReservationAgency());
+        ShardServer server = new ShardServer(catalog, shard, port, bindAddress);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+            } catch (IOException e) {
+                // 종료 중이다.
+            }
+            shard.close();
+        }, name + "-shutdown"));
+        System.out.println(name + " serving screenings " + firstId + ".." + (firstId + screenings - 1)
+                + " on " + bindAddress.getHostAddress() + ":" + server.getPort());
+        server.acceptLoop();
+    }
+
+    public ShardServer start() {
+        Thread acceptor = new Thread(this::acceptLoop, "shard-server-" + getPort());
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return this;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket connection : connections) {
+            try {
+                connection.close();
+            } catch (IOException e) {
+                // 연결마다 닫기를 시도한다.
+            }
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.add(socket);
+                if (serverSocket.isClosed()) {
+                    socket.close();
+                    return;
+                }
+                Thread connection = new Thread(() -> serve(socket), "shard-connection-" + socket.getPort());
+                connection.setDaemon(true);
+                connection.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        ByteBuffer buffer = ByteBuffer.allocate(ShardProtocol.MAX_MESSAGE_LENGTH);
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            while (true) {
+                long screeningId = in.readLong();
+                Customer customer = Customer.builder()
+                        .id(ShardProtocol.readNullableString(in))
+                        .name(ShardProtocol.readNullableString(in))
+                        .build();
+                int audienceCount = in.readInt();
+                if (serverSocket.isClosed()) {
+                    // close 와 겹쳐 읽힌 요청은 처리하지 않는다.
+                    return;
+                }
+                respond(out, buffer, screeningId, customer, audienceCount);
+                out.flush();
+            }
+        } catch (EOFException e) {
+            // 클라이언트가 연결을 닫았다.
+        } catch (IOException e) {
+            // 연결 오류. 이 연결만 정리한다.
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    /**
+     * 요청 하나에 응답 프레임 하나를 쓴다. 예매 중 어떤 예외가 나도 실패 프레임으로 돌려주어 연결을 유지한다.
+     */
+    private void respond(DataOutputStream out, ByteBuffer buffer, long screeningId,
+                         Customer customer, int audienceCount) throws IOException {
+        Optional<Screening> screening = catalog.findById(screeningId);
+        if (screening.isEmpty()) {
+            fail(out, ShardProtocol.NO_SCREENING, "no screening " + screeningId);
+            return;
+        }
+        int length;
+        try {
+            Reservation reservation = shard.reserve(screening.get(), customer, audienceCount).join();
+            buffer.clear();
+            length = ReservationCodec.encode(reservation, buffer);
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            fail(out, cause instanceof NotEnoughSeatsException ? ShardProtocol.NOT_ENOUGH_SEATS : ShardProtocol.FAILED,
+                    cause.getClass().getSimpleName() + ": " + cause.getMessage());
+            return;
+        }
+        out.writeByte(ShardProtocol.OK);
+        out.writeInt(length);
+        out.write(buffer.array(), 0, length);
+    }
+
+    /**
+     * 실패 응답을 쓴다. writeUTF 의 길이 제한을 넘지 않도록 메시지를 자른다.
+     */
+    private static void fail(DataOutputStream out, byte status, String message) throws IOException {
+        out.writeByte(status);
+        out.writeUTF(message.length() > ShardProtocol.MAX_ERROR_MESSAGE_LENGTH
+                ? message.substring(0, ShardProtocol.MAX_ERROR_MESSAGE_LENGTH)
+                : message);
+    }
+}
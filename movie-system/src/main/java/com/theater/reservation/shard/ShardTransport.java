@@ -0,0 +1,18 @@
+package com.theater.reservation.shard;
+
+import com.theater.customer.Customer;
+import com.theater.reservation.Reservation;
+import com.theater.screening.Screening;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 샤드 하나로 예매 요청을 전달하는 통로. 같은 프로세스 안의 샤드나 소켓 너머의 샤드를 같은 방식으로 다룬다.
+ */
+public interface ShardTransport extends AutoCloseable {
+
+    CompletableFuture<Reservation> reserve(Screening screening, Customer customer, int audienceCount);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,50 @@
+package com.theater.reservation.shard;
+
+import com.theater.customer.Customer;
+import com.theater.reservation.Reservation;
+import com.theater.screening.Screening;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 상영 id 의 일관 해시로 샤드를 골라 예매를 넘기는 라우팅 창구.
+ * 한 상영은 항상 같은 샤드에서 처리된다.
+ */
+public class ShardedReservationAgency implements AutoCloseable {
+
+    private static final int VIRTUAL_NODES = 64;
+
+    private final List<ShardTransport> shards;
+    private final ConsistentHashRing<ShardTransport> ring;
+
+    public ShardedReservationAgency(List<ShardTransport> shards) {
+        this.shards = List.copyOf(shards);
+        this.ring = new ConsistentHashRing<>(this.shards, VIRTUAL_NODES);
+    }
+
+    public Reservation reserve(Screening screening, Customer customer, int audienceCount) {
+        try {
+            return reserveAsync(screening, customer, audienceCount).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<Reservation> reserveAsync(Screening screening, Customer customer, int audienceCount) {
+        return shardOf(screening).reserve(screening, customer, audienceCount);
+    }
+
+    ShardTransport shardOf(Screening screening) {
+        return ring.route(screening.getId());
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(ShardTransport::close);
+    }
+}
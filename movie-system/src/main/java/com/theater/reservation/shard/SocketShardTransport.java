@@ -0,0 +1,107 @@
+package com.theater.reservation.shard;
+
+import com.theater.codec.ReservationCodec;
+import com.theater.customer.Customer;
+import com.theater.reservation.Reservation;
+import com.theater.screening.Screening;
+import com.theater.screening.exception.NotEnoughSeatsException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ShardServer 와 소켓 하나로 통신하는 샤드 통로.
+ * 요청은 상영 id 로만 보내며, 돌려받는 Reservation 은 원격 샤드의 결과를 ReservationCodec 으로 복원한 별도 객체 그래프다.
+ * 응답이 readTimeout 안에 오지 않거나 통신 오류가 나면 요청과 응답의 짝이 어긋나므로 연결을 닫고, 이후 요청은 모두 실패한다.
+ */
+public class SocketShardTransport implements ShardTransport {
+
+    static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final ExecutorService sender;
+
+    public SocketShardTransport(String host, int port) throws IOException {
+        this(host, port, DEFAULT_READ_TIMEOUT);
+    }
+
+    public SocketShardTransport(String host, int port, Duration readTimeout) throws IOException {
+        if (readTimeout.isNegative() || readTimeout.isZero()) {
+            throw new IllegalArgumentException("readTimeout must be positive: " + readTimeout);
+        }
+        this.socket = new Socket(host, port);
+        this.socket.setTcpNoDelay(true);
+        this.socket.setSoTimeout((int) Math.min(Integer.MAX_VALUE, Math.max(1, readTimeout.toMillis())));
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        this.sender = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "shard-client-" + host + ":" + port);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Reservation> reserve(Screening screening, Customer customer, int audienceCount) {
+        return CompletableFuture.supplyAsync(() -> call(screening.getId(), customer, audienceCount), sender);
+    }
+
+    private Reservation call(long screeningId, Customer customer, int audienceCount) {
+        try {
+            out.writeLong(screeningId);
+            ShardProtocol.writeNullableString(out, customer == null ? null : customer.getId());
+            ShardProtocol.writeNullableString(out, customer == null ? null : customer.getName());
+            out.writeInt(audienceCount);
+            out.flush();
+
+            byte status = in.readByte();
+            if (status != ShardProtocol.OK) {
+                String message = in.readUTF();
+                if (status == ShardProtocol.NOT_ENOUGH_SEATS) {
+                    throw new NotEnoughSeatsException(message);
+                }
+                throw new IllegalStateException(message);
+            }
+            int length = in.readInt();
+            if (length < 0 || length > ShardProtocol.MAX_MESSAGE_LENGTH) {
+                throw new IOException("invalid shard response length: " + length);
+            }
+            byte[] message = new byte[length];
+            in.readFully(message);
+            return ReservationCodec.decode(ByteBuffer.wrap(message));
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // 이미 실패한 연결이다.
+        }
+    }
+
+    @Override
+    public void close() {
+        sender.shutdown();
+        try {
+            socket.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
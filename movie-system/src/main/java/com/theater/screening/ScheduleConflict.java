@@ -0,0 +1,24 @@
+package com.theater.screening;
+
+import lombok.Getter;
+
+/**
+ * 같은 상영관에서 상영 시간이 겹치는 두 상영. earlier 가 먼저 시작한다.
+ */
+@Getter
+public class ScheduleConflict {
+
+    private final Screening earlier;
+    private final Screening later;
+
+    ScheduleConflict(Screening earlier, Screening later) {
+        this.earlier = earlier;
+        this.later = later;
+    }
+
+    @Override
+    public String toString() {
+        return earlier.getAuditorium() + ": " + earlier.getWhenScreened() + "~" + earlier.getEndTime()
+                + " overlaps " + later.getWhenScreened() + "~" + later.getEndTime();
+    }
+}
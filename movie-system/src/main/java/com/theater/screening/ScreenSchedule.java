@@ -0,0 +1,116 @@
+package com.theater.screening;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 상영관별 상영 시간표. 상영은 [whenScreened, getEndTime()) 구간을 차지하며,
+ * 같은 상영관에서 구간이 겹치는 상영은 등록하지 않는다. 상영관이 없는 상영은 검사하지 않는다.
+ * 한 주 분량을 한꺼번에 검사할 때는 validate 로 상영관별 정렬 후 한 번 훑는다.
+ */
+public class ScreenSchedule {
+
+    private final Map<String, NavigableMap<LocalDateTime, Screening>> byAuditorium = new HashMap<>();
+
+    /**
+     * 겹치는 상영이 없으면 등록하고, 있으면 등록하지 않고 충돌을 돌려준다.
+     */
+    public synchronized Optional<ScheduleConflict> add(Screening screening) {
+        if (screening.getAuditorium() == null) {
+            return Optional.empty();
+        }
+        NavigableMap<LocalDateTime, Screening> timetable =
+                byAuditorium.computeIfAbsent(screening.getAuditorium(), auditorium -> new TreeMap<>());
+
+        Map.Entry<LocalDateTime, Screening> before = timetable.floorEntry(screening.getWhenScreened());
+        if (before != null && overlaps(before.getValue(), screening)) {
+            return Optional.of(new ScheduleConflict(before.getValue(), screening));
+        }
+        Map.Entry<LocalDateTime, Screening> after = timetable.higherEntry(screening.getWhenScreened());
+        if (after != null && overlaps(screening, after.getValue())) {
+            return Optional.of(new ScheduleConflict(screening, after.getValue()));
+        }
+        timetable.put(screening.getWhenScreened(), screening);
+        return Optional.empty();
+    }
+
+    public synchronized boolean remove(Screening screening) {
+        NavigableMap<LocalDateTime, Screening> timetable = byAuditorium.get(screening.getAuditorium());
+        return timetable != null && timetable.remove(screening.getWhenScreened(), screening);
+    }
+
+    public synchronized List<Screening> findByAuditorium(String auditorium) {
+        NavigableMap<LocalDateTime, Screening> timetable = byAuditorium.get(auditorium);
+        return timetable == null ? List.of() : List.copyOf(timetable.values());
+    }
+
+    /**
+     * 상영 목록 전체에서 같은 상영관 안의 겹치는 상영을 모두 찾는다.
+     * 상영관별로 시작 시각 순으로 정렬한 뒤, 지금까지 가장 늦게 끝나는 상영과 비교하며 한 번 훑는다.
+     */
+    public static List<ScheduleConflict> validate(Collection<Screening> screenings) {
+        Map<String, List<Screening>> grouped = new HashMap<>();
+        for (Screening screening : screenings) {
+            if (screening.getAuditorium() != null) {
+                grouped.computeIfAbsent(screening.getAuditorium(), auditorium -> new ArrayList<>()).add(screening);
+            }
+        }
+
+        List<ScheduleConflict> conflicts = new ArrayList<>();
+        for (List<Screening> auditoriumScreenings : grouped.values()) {
+            sweep(auditoriumScreenings, conflicts);
+        }
+        return conflicts;
+    }
+
+    private static void sweep(List<Screening> screenings, List<ScheduleConflict> conflicts) {
+        int size = screenings.size();
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        for (int i = 0; i < size; i++) {
+            Screening screening = screenings.get(i);
+            starts[i] = epochSecond(screening.getWhenScreened());
+            ends[i] = epochSecond(screening.getEndTime());
+        }
+        Integer[] indexes = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        Arrays.sort(indexes, (a, b) -> Long.compare(starts[a], starts[b]));
+
+        int latest = -1;
+        for (int index : indexes) {
+            if (latest >= 0 && overlaps(starts[latest], ends[latest], starts[index])) {
+                conflicts.add(new ScheduleConflict(screenings.get(latest), screenings.get(index)));
+            }
+            if (latest < 0 || ends[index] >= ends[latest]) {
+                latest = index;
+            }
+        }
+    }
+
+    private static boolean overlaps(Screening earlier, Screening later) {
+        return overlaps(epochSecond(earlier.getWhenScreened()), epochSecond(earlier.getEndTime()),
+                epochSecond(later.getWhenScreened()));
+    }
+
+    /**
+     * earlier 보다 늦거나 같게 시작하는 상영이 earlier 와 겹치는지. 시작 시각이 같으면 상영 시간이 0 이어도 겹친다.
+     */
+    private static boolean overlaps(long earlierStart, long earlierEnd, long laterStart) {
+        return laterStart == earlierStart || laterStart < earlierEnd;
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
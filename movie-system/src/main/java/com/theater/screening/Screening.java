@@ -2,33 +2,155 @@ package com.theater.screening;
 
 import com.theater.customer.Customer;
 import com.theater.money.Money;
+import com.theater.movie.Duration;
 import com.theater.movie.Movie;
+import com.theater.movie.MoviePricing;
+import com.theater.movie.discount.DiscountCondition;
 import com.theater.reservation.Reservation;
+import com.theater.screening.exception.NotEnoughSeatsException;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Getter
 @Setter
-@Builder
 public class Screening {
 
+    private static final AtomicLong LOCAL_IDS = new AtomicLong();
+
+    /**
+     * 상영 식별자. 지정하지 않으면 이 JVM 안에서만 유일한 음수 id 를 받는다.
+     * 저널 복구처럼 재시작 후에도 같은 상영을 찾아야 하면 양수 id 를 지정해야 한다.
+     */
+    @Setter(AccessLevel.NONE)
+    private final long id;
+
     private Movie movie;
     private int sequence;
     private LocalDateTime whenScreened;
+    private String auditorium;
+
+    @Setter(AccessLevel.NONE)
+    private SeatInventory seatInventory;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile ScreeningFee cachedFee;
+
+    /**
+     * 할인 후 요금에 곱하는 가격 배수. DynamicPricingEngine 이 주기적으로 갱신하며 예매 경로는 읽기만 한다.
+     */
+    @Setter(AccessLevel.NONE)
+    private volatile double priceMultiplier = 1.0;
+
+    @Builder
+    public Screening(long id, Movie movie, int sequence, LocalDateTime whenScreened, String auditorium, SeatInventory seatInventory) {
+        if (id < 0) {
+            throw new IllegalArgumentException("screening id must not be negative: " + id);
+        }
+        this.id = id == 0 ? LOCAL_IDS.decrementAndGet() : id;
+        this.movie = movie;
+        this.sequence = sequence;
+        this.whenScreened = whenScreened;
+        this.auditorium = auditorium;
+        this.seatInventory = seatInventory == null ? SeatInventory.unlimited() : seatInventory;
+    }
+
+    /**
+     * 상영 종료 시각. 영화의 상영 시간이 없으면 시작 시각과 같다.
+     */
+    public LocalDateTime getEndTime() {
+        Duration runningTime = movie.getRunningTime();
+        return runningTime == null ? whenScreened : runningTime.addTo(whenScreened);
+    }
 
     public Reservation reserve(Customer customer, int audienceCount) {
+        return reserve(customer, audienceCount, calculateScreeningFee());
+    }
+
+    /**
+     * 미리 계산해 둔 1인 요금으로 좌석을 선점하고 예매를 만든다. 예매를 만들지 못하면 선점한 좌석을 돌려놓는다.
+     */
+    public Reservation reserve(Customer customer, int audienceCount, ScreeningFee screeningFee) {
+        hold(audienceCount);
+        try {
+            return confirm(customer, audienceCount, screeningFee);
+        } catch (RuntimeException e) {
+            release(audienceCount);
+            throw e;
+        }
+    }
+
+    public void hold(int audienceCount) {
+        if (!tryHold(audienceCount)) {
+            throw new NotEnoughSeatsException(audienceCount + " seats requested, " + seatInventory.getRemaining() + " remaining");
+        }
+    }
+
+    public boolean tryHold(int audienceCount) {
+        return seatInventory.tryHold(audienceCount);
+    }
+
+    public void release(int audienceCount) {
+        seatInventory.release(audienceCount);
+    }
+
+    /**
+     * hold 로 이미 선점한 좌석에 대해 예매를 만든다.
+     */
+    public Reservation confirm(Customer customer, int audienceCount) {
+        return confirm(customer, audienceCount, calculateScreeningFee());
+    }
+
+    /**
+     * 미리 계산해 둔 1인 요금으로 예매를 만든다. 여러 예매를 한꺼번에 처리할 때 요금 계산을 한 번으로 줄이기 위해 쓴다.
+     */
+    public Reservation confirm(Customer customer, int audienceCount, ScreeningFee screeningFee) {
         return Reservation.builder()
                 .customer(customer)
                 .screening(this)
-                .fee(calculateFee(audienceCount))
+                .fee(screeningFee.getFee().times(audienceCount))
                 .audienceCount(audienceCount)
+                .pricingVersion(screeningFee.getPricingVersion())
+                .screeningFee(screeningFee)
                 .build();
     }
 
-    private Money calculateFee(int audienceCount) {
-        return movie.calculateMovieFee(this).times(audienceCount);
+    public void setPriceMultiplier(double priceMultiplier) {
+        if (!(priceMultiplier > 0.0) || Double.isInfinite(priceMultiplier)) {
+            throw new IllegalArgumentException("price multiplier must be positive: " + priceMultiplier);
+        }
+        this.priceMultiplier = priceMultiplier;
+    }
+
+    public Money calculateMovieFee() {
+        return calculateScreeningFee().getFee();
+    }
+
+    public ScreeningFee calculateScreeningFee() {
+        Movie movie = this.movie;
+        MoviePricing pricing = movie.getPricing();
+        double priceMultiplier = this.priceMultiplier;
+        ScreeningFee cached = this.cachedFee;
+        if (cached != null && cached.matches(pricing, sequence, whenScreened)) {
+            movie.getFeeCacheStats().recordHit();
+            if (cached.getPriceMultiplier() == priceMultiplier) {
+                return cached;
+            }
+            ScreeningFee repriced = cached.withPriceMultiplier(priceMultiplier);
+            this.cachedFee = repriced;
+            return repriced;
+        }
+
+        movie.getFeeCacheStats().recordMiss();
+        Class<? extends DiscountCondition> matched = pricing.findMatchedConditionType(this);
+        Money baseFee = matched == null ? pricing.getFee() : pricing.calculateDiscountedFee();
+        ScreeningFee screeningFee = new ScreeningFee(pricing, sequence, whenScreened, matched, baseFee, priceMultiplier);
+        this.cachedFee = screeningFee;
+        return screeningFee;
     }
 }
@@ -0,0 +1,136 @@
+package com.theater.screening;
+
+import com.theater.movie.Movie;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 메모리 상의 상영 목록. 상영 id, 영화별, 상영 시각별, 요일별 색인을 함께 유지한다.
+ * 색인 값은 불변 목록으로 교체하므로 조회는 락 없이 이루어진다.
+ * 등록 후 상영의 영화나 상영 시각을 바꾸려면 remove 한 뒤 다시 add 해야 색인이 맞는다.
+ */
+public class ScreeningCatalog {
+
+    private final NavigableMap<LocalDateTime, List<Screening>> byTime = new ConcurrentSkipListMap<>();
+    private final Map<Movie, NavigableMap<LocalDateTime, List<Screening>>> byMovie = new ConcurrentHashMap<>();
+    private final Map<DayOfWeek, NavigableMap<LocalTime, List<Screening>>> byDayOfWeek = new EnumMap<>(DayOfWeek.class);
+    private final Map<Long, Screening> byId = new ConcurrentHashMap<>();
+
+    public ScreeningCatalog() {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            byDayOfWeek.put(dayOfWeek, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    /**
+     * 상영을 등록한다. 같은 id 의 상영이 이미 있으면 IllegalArgumentException 을 던지고 아무 색인도 바꾸지 않는다.
+     */
+    public void add(Screening screening) {
+        if (byId.putIfAbsent(screening.getId(), screening) != null) {
+            throw new IllegalArgumentException("screening " + screening.getId() + " is already registered");
+        }
+        LocalDateTime whenScreened = screening.getWhenScreened();
+        put(byTime, whenScreened, screening);
+        put(byMovie.computeIfAbsent(screening.getMovie(), movie -> new ConcurrentSkipListMap<>()), whenScreened, screening);
+        put(byDayOfWeek.get(whenScreened.getDayOfWeek()), whenScreened.toLocalTime(), screening);
+    }
+
+    public void addAll(Collection<Screening> screenings) {
+        screenings.forEach(this::add);
+    }
+
+    public boolean remove(Screening screening) {
+        LocalDateTime whenScreened = screening.getWhenScreened();
+        boolean removed = remove(byTime, whenScreened, screening);
+        NavigableMap<LocalDateTime, List<Screening>> movieIndex = byMovie.get(screening.getMovie());
+        if (movieIndex != null) {
+            remove(movieIndex, whenScreened, screening);
+        }
+        remove(byDayOfWeek.get(whenScreened.getDayOfWeek()), whenScreened.toLocalTime(), screening);
+        byId.remove(screening.getId(), screening);
+        return removed;
+    }
+
+    public Optional<Screening> findById(long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public List<Screening> findByMovie(Movie movie, LocalDateTime from, LocalDateTime to) {
+        NavigableMap<LocalDateTime, List<Screening>> movieIndex = byMovie.get(movie);
+        if (movieIndex == null) {
+            return List.of();
+        }
+        return flatten(movieIndex.subMap(from, true, to, true).values());
+    }
+
+    public List<Screening> findBetween(LocalDateTime from, LocalDateTime to) {
+        return flatten(byTime.subMap(from, true, to, true).values());
+    }
+
+    public List<Screening> findByDayOfWeek(DayOfWeek dayOfWeek, LocalTime from, LocalTime to) {
+        return flatten(byDayOfWeek.get(dayOfWeek).subMap(from, true, to, true).values());
+    }
+
+    /**
+     * 구간 안의 상영 중 영화의 할인 조건(순번/기간 조건)을 만족하는 상영만 돌려준다.
+     */
+    public List<Screening> findDiscountable(LocalDateTime from, LocalDateTime to) {
+        List<Screening> discountable = new ArrayList<>();
+        for (List<Screening> screenings : byTime.subMap(from, true, to, true).values()) {
+            for (Screening screening : screenings) {
+                if (screening.getMovie().isDiscountable(screening)) {
+                    discountable.add(screening);
+                }
+            }
+        }
+        return discountable;
+    }
+
+    public int size() {
+        int size = 0;
+        for (List<Screening> screenings : byTime.values()) {
+            size += screenings.size();
+        }
+        return size;
+    }
+
+    private static <K> void put(NavigableMap<K, List<Screening>> index, K key, Screening screening) {
+        index.compute(key, (k, screenings) -> {
+            List<Screening> updated = screenings == null ? new ArrayList<>(1) : new ArrayList<>(screenings);
+            updated.add(screening);
+            return List.copyOf(updated);
+        });
+    }
+
+    private static <K> boolean remove(NavigableMap<K, List<Screening>> index, K key, Screening screening) {
+        List<Screening> before = index.get(key);
+        if (before == null || before.stream().noneMatch(candidate -> candidate == screening)) {
+            return false;
+        }
+        index.computeIfPresent(key, (k, screenings) -> {
+            List<Screening> updated = new ArrayList<>(screenings);
+            updated.removeIf(candidate -> candidate == screening);
+            return updated.isEmpty() ? null : List.copyOf(updated);
+        });
+        return true;
+    }
+
+    private static List<Screening> flatten(Collection<List<Screening>> groups) {
+        List<Screening> result = new ArrayList<>();
+        for (List<Screening> screenings : groups) {
+            result.addAll(screenings);
+        }
+        return result;
+    }
+}
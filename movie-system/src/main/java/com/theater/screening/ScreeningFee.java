@@ -0,0 +1,55 @@
+package com.theater.screening;
+
+import com.theater.money.Money;
+import com.theater.movie.MoviePricing;
+import com.theater.movie.discount.DiscountCondition;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 한 상영의 1인 요금과 그 요금을 계산한 요금 설정 스냅샷.
+ * 스냅샷과 상영 순번/시각이 같으면 할인 결과도 같으므로 상영마다 한 번 계산한 값을 재사용한다.
+ * fee 는 할인까지 반영한 baseFee 에 상영의 가격 배수를 곱한 값이다.
+ */
+@Getter
+public class ScreeningFee {
+
+    private final MoviePricing pricing;
+    private final int sequence;
+    private final LocalDateTime whenScreened;
+    private final Class<? extends DiscountCondition> matchedConditionType;
+    private final Money baseFee;
+    private final double priceMultiplier;
+    private final Money fee;
+
+    ScreeningFee(MoviePricing pricing, int sequence, LocalDateTime whenScreened,
+                 Class<? extends DiscountCondition> matchedConditionType, Money baseFee, double priceMultiplier) {
+        this.pricing = pricing;
+        this.sequence = sequence;
+        this.whenScreened = whenScreened;
+        this.matchedConditionType = matchedConditionType;
+        this.baseFee = baseFee;
+        this.priceMultiplier = priceMultiplier;
+        this.fee = baseFee.times(priceMultiplier);
+    }
+
+    public boolean isDiscounted() {
+        return matchedConditionType != null;
+    }
+
+    public long getPricingVersion() {
+        return pricing.getVersion();
+    }
+
+    ScreeningFee withPriceMultiplier(double priceMultiplier) {
+        return new ScreeningFee(pricing, sequence, whenScreened, matchedConditionType, baseFee, priceMultiplier);
+    }
+
+    boolean matches(MoviePricing pricing, int sequence, LocalDateTime whenScreened) {
+        return this.pricing == pricing
+                && this.sequence == sequence
+                && Objects.equals(this.whenScreened, whenScreened);
+    }
+}
@@ -0,0 +1,93 @@
+package com.theater.screening;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상영 한 회차의 좌석 재고.
+ * 락 없이 CAS 로 예약 좌석 수를 갱신하며, 정원을 넘기는 선점 요청은 거절한다.
+ * 무제한 재고는 정원 검사 없이 예약 좌석 수만 더하므로 선점을 거절하지 않는다.
+ * 0 석 요청은 기존 예매 동작과 같이 재고를 건드리지 않고 성공한다.
+ */
+public class SeatInventory {
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final int capacity;
+    private final AtomicLong reserved = new AtomicLong();
+
+    private SeatInventory(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public static SeatInventory of(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+        }
+        return new SeatInventory(capacity);
+    }
+
+    public static SeatInventory unlimited() {
+        return new SeatInventory(UNLIMITED);
+    }
+
+    public boolean tryHold(int count) {
+        checkCount(count);
+        if (count == 0) {
+            return true;
+        }
+        if (isUnlimited()) {
+            reserved.addAndGet(count);
+            return true;
+        }
+        while (true) {
+            long current = reserved.get();
+            if (count > capacity - current) {
+                return false;
+            }
+            if (reserved.compareAndSet(current, current + count)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(int count) {
+        checkCount(count);
+        if (count == 0) {
+            return;
+        }
+        while (true) {
+            long current = reserved.get();
+            if (count > current) {
+                throw new IllegalStateException("cannot release " + count + " seats, only " + current + " are held");
+            }
+            if (reserved.compareAndSet(current, current - count)) {
+                return;
+            }
+        }
+    }
+
+    public boolean isUnlimited() {
+        return capacity == UNLIMITED;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getReserved() {
+        return reserved.get();
+    }
+
+    public long getRemaining() {
+        if (isUnlimited()) {
+            return Long.MAX_VALUE;
+        }
+        return capacity - reserved.get();
+    }
+
+    private void checkCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("seat count must not be negative: " + count);
+        }
+    }
+}
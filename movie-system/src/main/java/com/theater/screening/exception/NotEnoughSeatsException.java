@@ -0,0 +1,19 @@
+package com.theater.screening.exception;
+
+public class NotEnoughSeatsException extends RuntimeException {
+
+    public NotEnoughSeatsException() {
+    }
+
+    public NotEnoughSeatsException(String message) {
+        super(message);
+    }
+
+    public NotEnoughSeatsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public NotEnoughSeatsException(Throwable cause) {
+        super(cause);
+    }
+}
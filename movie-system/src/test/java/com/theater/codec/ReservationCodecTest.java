@@ -0,0 +1,218 @@
+package com.theater.codec;
+
+import com.theater.customer.Customer;
+import com.theater.money.Money;
+import com.theater.movie.Duration;
+import com.theater.movie.Movie;
+import com.theater.movie.MovieType;
+import com.theater.movie.discount.PeriodCondition;
+import com.theater.movie.discount.SequenceCondition;
+import com.theater.reservation.Reservation;
+import com.theater.screening.Screening;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+class ReservationCodecTest {
+
+    @DisplayName("예매를 바이너리로 썼다가 다시 읽으면 같은 값을 가진 예매가 된다")
+    @Test
+    void roundTrip() {
+        // given
+        Reservation reservation = reservation();
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        // when
+        int length = ReservationCodec.encode(reservation, buffer);
+        buffer.flip();
+        Reservation decoded = ReservationCodec.decode(buffer);
+
+        // then
+        Assertions.assertEquals(length, buffer.position());
+        Assertions.assertEquals(reservation.getFee(), decoded.getFee());
+        Assertions.assertEquals(reservation.getAudienceCount(), decoded.getAudienceCount());
+        Assertions.assertEquals(reservation.getPricingVersion(), decoded.getPricingVersion());
+        Assertions.assertEquals(reservation.getCustomer().getId(), decoded.getCustomer().getId());
+        Assertions.assertEquals(reservation.getCustomer().getName(), decoded.getCustomer().getName());
+        Assertions.assertEquals(reservation.getScreening().getSequence(), decoded.getScreening().getSequence());
+        Assertions.assertEquals(reservation.getScreening().getWhenScreened(), decoded.getScreening().getWhenScreened());
+
+        Movie movie = reservation.getScreening().getMovie();
+        Movie decodedMovie = decoded.getScreening().getMovie();
+        Assertions.assertEquals(movie.getTitle(), decodedMovie.getTitle());
+        Assertions.assertEquals(movie.getFee(), decodedMovie.getFee());
+        Assertions.assertEquals(movie.getMovieType(), decodedMovie.getMovieType());
+        Assertions.assertEquals(movie.getDiscountAmount(), decodedMovie.getDiscountAmount());
+        Assertions.assertEquals(movie.getDiscountConditions().size(), decodedMovie.getDiscountConditions().size());
+        Assertions.assertEquals(movie.calculateMovieFee(reservation.getScreening()),
+                decodedMovie.calculateMovieFee(decoded.getScreening()));
+    }
+
+    @DisplayName("가격 배수가 적용된 예매도 다시 읽으면 같은 1인 요금을 계산한다")
+    @Test
+    void roundTripWithPriceMultiplier() {
+        // given
+        Reservation reservation = reservation(1.5);
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        // when
+        ReservationCodec.encode(reservation, buffer);
+        buffer.flip();
+        Reservation decoded = ReservationCodec.decode(buffer);
+
+        // then
+        Assertions.assertEquals(Money.wons(27000), reservation.getFee());
+        Assertions.assertEquals(1.5, new ReservationFlyweight().wrap(buffer, 0).getPriceMultiplier());
+        Assertions.assertEquals(1.5, decoded.getScreeningFee().getPriceMultiplier());
+        Assertions.assertEquals(reservation.getScreeningFee().getFee(), decoded.getScreening().calculateMovieFee());
+        Assertions.assertEquals(reservation.getFee(), decoded.getScreeningFee().getFee().times(decoded.getAudienceCount()));
+    }
+
+    @DisplayName("예매 후 영화 요금 설정이 바뀌어도 예매 당시의 요금 설정을 기록한다")
+    @Test
+    void encodeReservationPricingSnapshot() {
+        // given
+        Reservation reservation = reservation();
+        Movie movie = reservation.getScreening().getMovie();
+        movie.setFee(Money.wons(20000));
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        // when
+        ReservationCodec.encode(reservation, buffer);
+        buffer.flip();
+        Reservation decoded = ReservationCodec.decode(buffer);
+
+        // then
+        Assertions.assertNotEquals(movie.getVersion(), reservation.getPricingVersion());
+        Assertions.assertEquals(Money.wons(10000), decoded.getScreening().getMovie().getFee());
+        Assertions.assertEquals(reservation.getScreeningFee().getFee(), decoded.getScreening().calculateMovieFee());
+        Assertions.assertEquals(reservation.getPricingVersion(), decoded.getPricingVersion());
+    }
+
+    @DisplayName("상영 id, 상영관, 상영 시간, 고객 핸들과 요금 설정 버전을 그대로 복원한다")
+    @Test
+    void roundTripKeepsIdentity() {
+        // given
+        Movie movie = Movie.builder()
+                .title("영화")
+                .runningTime(Duration.hours(2, 10))
+                .fee(Money.wons(10000))
+                .discountAmount(Money.wons(1000))
+                .discountConditions(List.of(SequenceCondition.builder().sequence(1).build()))
+                .movieType(MovieType.AMOUNT_DISCOUNT)
+                .build();
+        movie.setDiscountAmount(Money.wons(2000));
+        Screening screening = Screening.builder()
+                .id(42L)
+                .movie(movie)
+                .sequence(1)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 10, 0))
+                .auditorium("1관")
+                .build();
+        Reservation reservation = screening.reserve(null, 2);
+        reservation.setCustomerHandle(7);
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        // when
+        ReservationCodec.encode(reservation, buffer);
+        buffer.flip();
+        Reservation decoded = ReservationCodec.decode(buffer);
+        ReservationFlyweight flyweight = new ReservationFlyweight().wrap(buffer, 0);
+
+        // then
+        Assertions.assertEquals(42L, decoded.getScreening().getId());
+        Assertions.assertEquals("1관", decoded.getScreening().getAuditorium());
+        Assertions.assertEquals(Duration.hours(2, 10), decoded.getScreening().getMovie().getRunningTime());
+        Assertions.assertEquals(screening.getEndTime(), decoded.getScreening().getEndTime());
+        Assertions.assertEquals(7, decoded.getCustomerHandle());
+        Assertions.assertEquals(1, decoded.getPricingVersion());
+        Assertions.assertEquals(1, decoded.getScreeningFee().getPricingVersion());
+        Assertions.assertEquals(reservation.getScreeningFee().getFee(), decoded.getScreeningFee().getFee());
+        Assertions.assertEquals(42L, flyweight.getScreeningId());
+        Assertions.assertEquals(130L, flyweight.getRunningTimeMinutes());
+        Assertions.assertEquals(7, flyweight.getCustomerHandle());
+        Assertions.assertEquals("1관", flyweight.getAuditorium());
+        Assertions.assertNull(decoded.getCustomer());
+    }
+
+    @DisplayName("JVM 안에서만 유효한 상영 id 는 복원하지 않고 새 로컬 id 를 받는다")
+    @Test
+    void localScreeningIdIsNotReused() {
+        // given
+        Reservation reservation = reservation();
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        // when
+        ReservationCodec.encode(reservation, buffer);
+        buffer.flip();
+        Reservation decoded = ReservationCodec.decode(buffer);
+
+        // then
+        Assertions.assertTrue(reservation.getScreening().getId() < 0);
+        Assertions.assertTrue(decoded.getScreening().getId() < 0);
+        Assertions.assertNotEquals(reservation.getScreening().getId(), decoded.getScreening().getId());
+        Assertions.assertNull(decoded.getScreening().getAuditorium());
+        Assertions.assertNull(decoded.getScreening().getMovie().getRunningTime());
+        Assertions.assertEquals(-1L, new ReservationFlyweight().wrap(buffer, 0).getRunningTimeMinutes());
+    }
+
+    @DisplayName("플라이웨이트는 객체 그래프를 만들지 않고 기록된 필드를 읽는다")
+    @Test
+    void flyweight() {
+        // given
+        Reservation reservation = reservation();
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        ReservationCodec.encode(reservation, buffer);
+        int second = buffer.position();
+        ReservationCodec.encode(reservation, buffer);
+
+        // when
+        ReservationFlyweight flyweight = new ReservationFlyweight().wrap(buffer, second);
+
+        // then
+        Assertions.assertEquals(reservation.getFee().getScaledAmount(), flyweight.getFee());
+        Assertions.assertEquals(reservation.getAudienceCount(), flyweight.getAudienceCount());
+        Assertions.assertEquals(reservation.getScreening().getWhenScreened(), flyweight.getWhenScreened());
+        Assertions.assertEquals(MovieType.PERCENT_DISCOUNT, flyweight.getMovieType());
+        Assertions.assertEquals("고객-1", flyweight.getCustomerId());
+        Assertions.assertEquals("이름", flyweight.getCustomerName());
+        Assertions.assertEquals("영화", flyweight.getMovieTitle());
+    }
+
+    private Reservation reservation() {
+        return reservation(1.0);
+    }
+
+    private Reservation reservation(double priceMultiplier) {
+        Screening screening = Screening.builder()
+                .movie(Movie.builder()
+                        .title("영화")
+                        .fee(Money.wons(10000))
+                        .discountAmount(Money.wons(1000))
+                        .discountPercent(0.1)
+                        .discountConditions(List.of(
+                                SequenceCondition.builder().sequence(1).build(),
+                                PeriodCondition.builder()
+                                        .dayOfWeek(DayOfWeek.SUNDAY)
+                                        .startTime(LocalTime.of(1, 20))
+                                        .endTime(LocalTime.of(2, 30))
+                                        .build()))
+                        .movieType(MovieType.PERCENT_DISCOUNT)
+                        .build())
+                .sequence(1)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 1, 30, 0))
+                .build();
+        screening.setPriceMultiplier(priceMultiplier);
+        Customer customer = Customer.builder()
+                .id("고객-1")
+                .name("이름")
+                .build();
+        return screening.reserve(customer, 2);
+    }
+}
@@ -0,0 +1,63 @@
+package com.theater.codec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+class Utf8Test {
+
+    @DisplayName("한글, 보충 문자, 짝 없는 surrogate 를 String.getBytes(UTF_8) 과 같은 byte 로 쓴다")
+    @Test
+    void sameBytesAsJdk() {
+        // given
+        String value = "영화 🎬 end \uD800 \uDC00";
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        // when
+        Utf8.write(buffer, value);
+        buffer.flip();
+
+        // then
+        byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+        Assertions.assertEquals(expected.length, buffer.getShort(0));
+        byte[] written = new byte[expected.length];
+        buffer.duplicate().position(Short.BYTES).get(written);
+        Assertions.assertArrayEquals(expected, written);
+        Assertions.assertEquals(new String(expected, StandardCharsets.UTF_8), Utf8.read(buffer));
+    }
+
+    @DisplayName("너무 긴 문자열이나 버퍼에 들어가지 않는 문자열은 아무것도 쓰지 않고 실패한다")
+    @Test
+    void checkLengthBeforeWriting() {
+        // given
+        ByteBuffer buffer = ByteBuffer.allocate(Short.MAX_VALUE + 16);
+        buffer.putInt(7);
+        String tooLong = "가".repeat(Short.MAX_VALUE / 3 + 1);
+
+        // when, then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Utf8.write(buffer, tooLong));
+        Assertions.assertEquals(Integer.BYTES, buffer.position());
+        ByteBuffer small = ByteBuffer.allocate(4);
+        Assertions.assertThrows(BufferOverflowException.class, () -> Utf8.write(small, "abc"));
+        Assertions.assertEquals(0, small.position());
+    }
+
+    @DisplayName("길이 접두어가 음수이거나 남은 byte 보다 크면 거절한다")
+    @Test
+    void validateLengthPrefix() {
+        // given
+        ByteBuffer negative = ByteBuffer.allocate(8).putShort(0, (short) -5);
+        ByteBuffer truncated = ByteBuffer.allocate(8).putShort(0, (short) 10);
+
+        // when, then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Utf8.read(negative));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Utf8.read(negative, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Utf8.skip(negative, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Utf8.read(truncated));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Utf8.read(truncated, 0));
+    }
+}
@@ -0,0 +1,136 @@
+package com.theater.customer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class CustomerRegistryTest {
+
+    private Customer customer(String id, String name) {
+        return Customer.builder()
+                .id(id)
+                .name(name)
+                .build();
+    }
+
+    @DisplayName("같은 id 는 한 번만 등록되고 같은 핸들과 공유 인스턴스를 돌려준다")
+    @Test
+    void deduplicateSameId() {
+        // given
+        CustomerRegistry registry = new CustomerRegistry();
+
+        // when
+        int first = registry.register(customer("고객-1", "이름"));
+        int second = registry.register(customer("고객-1", "다른 이름"));
+        Customer canonical = registry.canonical(customer("고객-1", null));
+
+        // then
+        Assertions.assertNotEquals(CustomerRegistry.NO_HANDLE, first);
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(1, registry.size());
+        Assertions.assertSame(registry.customerOf(first), canonical);
+        Assertions.assertEquals("이름", canonical.getName());
+        Assertions.assertEquals(CustomerRegistry.NO_HANDLE, registry.handleOf("고객-2"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.register(customer(null, "이름")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.customerOf(CustomerRegistry.NO_HANDLE));
+    }
+
+    @DisplayName("색인이 3/4 을 넘어 커져도 이미 발급한 핸들은 바뀌지 않는다")
+    @Test
+    void handlesSurviveResize() {
+        // given
+        CustomerRegistry registry = new CustomerRegistry(8);
+        List<Integer> handles = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            handles.add(registry.register(customer("고객-" + i, "이름")));
+        }
+
+        // when
+        for (int i = 10; i < 200; i++) {
+            registry.register(customer("고객-" + i, "이름"));
+        }
+
+        // then
+        Assertions.assertEquals(200, registry.size());
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(handles.get(i).intValue(), registry.handleOf("고객-" + i));
+            Assertions.assertEquals("고객-" + i, registry.customerOf(handles.get(i)).getId());
+        }
+        Set<Integer> distinct = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            distinct.add(registry.handleOf("고객-" + i));
+        }
+        Assertions.assertEquals(200, distinct.size());
+    }
+
+    @DisplayName("같은 이름은 하나의 문자열 인스턴스를 공유한다")
+    @Test
+    void internNames() {
+        // given
+        CustomerRegistry registry = new CustomerRegistry();
+        String name = new String("이름");
+        String sameName = new String("이름");
+
+        // when
+        int first = registry.register(customer("고객-1", name));
+        int second = registry.register(customer("고객-2", sameName));
+
+        // then
+        Assertions.assertNotSame(name, sameName);
+        Assertions.assertSame(registry.customerOf(first).getName(), registry.customerOf(second).getName());
+    }
+
+    @DisplayName("여러 스레드가 겹치는 id 를 동시에 등록해도 id 마다 핸들은 하나다")
+    @Test
+    void concurrentRegistration() throws Exception {
+        // given
+        CustomerRegistry registry = new CustomerRegistry(16);
+        int threads = 8;
+        int ids = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<int[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t * 97;
+            futures.add(executor.submit(() -> {
+                start.await();
+                int[] handles = new int[ids];
+                for (int i = 0; i < ids; i++) {
+                    int id = (i + offset) % ids;
+                    handles[id] = registry.register(customer("고객-" + id, "이름"));
+                }
+                return handles;
+            }));
+        }
+        start.countDown();
+        List<int[]> results = new ArrayList<>();
+        for (Future<int[]> future : futures) {
+            results.add(future.get());
+        }
+        executor.shutdown();
+
+        // then
+        Assertions.assertEquals(ids, registry.size());
+        Set<Integer> distinct = new HashSet<>();
+        for (int id = 0; id < ids; id++) {
+            int handle = registry.handleOf("고객-" + id);
+            distinct.add(handle);
+            Assertions.assertEquals("고객-" + id, registry.customerOf(handle).getId());
+            for (int[] handles : results) {
+                Assertions.assertEquals(handle, handles[id]);
+            }
+        }
+        Assertions.assertEquals(ids, distinct.size());
+    }
+}
@@ -0,0 +1,93 @@
+package com.theater.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @DisplayName("64ns 미만은 1ns 단위 버킷에, 그 이상은 2의 거듭제곱 구간을 32 등분한 버킷에 기록한다")
+    @Test
+    void bucketBoundaries() {
+        Assertions.assertEquals(0, LatencyHistogram.bucketOf(0));
+        Assertions.assertEquals(63, LatencyHistogram.bucketOf(63));
+        Assertions.assertEquals(64, LatencyHistogram.bucketOf(64));
+        Assertions.assertEquals(64, LatencyHistogram.bucketOf(65));
+        Assertions.assertEquals(65, LatencyHistogram.bucketOf(66));
+        Assertions.assertEquals(65, LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(64)));
+        Assertions.assertEquals(127, LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(126)));
+        Assertions.assertEquals(LatencyHistogram.bucketOf(127) + 1, LatencyHistogram.bucketOf(128));
+        Assertions.assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    @DisplayName("버킷 상한은 기록한 값보다 작지 않고 상대 오차는 1/32 이내다")
+    @Test
+    void subBucketPrecision() {
+        for (long value = 64; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 7) {
+            long highest = LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(value));
+            Assertions.assertTrue(highest >= value, "value " + value);
+            Assertions.assertTrue(highest - value <= value / 32, "value " + value);
+        }
+    }
+
+    @DisplayName("백분위 값은 누적 개수가 목표에 처음 닿는 버킷의 상한이다")
+    @Test
+    void percentile() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        histogram.record(1000, 0);
+
+        // when, then
+        Assertions.assertEquals(100, histogram.getTotalCount());
+        Assertions.assertEquals(1, histogram.getValueAtPercentile(0));
+        Assertions.assertEquals(50, histogram.getValueAtPercentile(50));
+        Assertions.assertEquals(99, histogram.getValueAtPercentile(99));
+        Assertions.assertEquals(101, histogram.getValueAtPercentile(100));
+        Assertions.assertEquals(101, histogram.getMaxValue());
+    }
+
+    @DisplayName("0 과 음수는 0 버킷에, long 최댓값은 마지막 버킷에 기록한다")
+    @Test
+    void extremes() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        LatencyHistogram empty = new LatencyHistogram();
+
+        // when
+        histogram.record(-5);
+        histogram.record(0);
+        histogram.record(Long.MAX_VALUE, 2);
+
+        // then
+        Assertions.assertEquals(0, empty.getValueAtPercentile(50));
+        Assertions.assertEquals(0, empty.getMaxValue());
+        Assertions.assertEquals(4, histogram.getTotalCount());
+        Assertions.assertEquals(0, histogram.getValueAtPercentile(50));
+        Assertions.assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(75));
+        Assertions.assertEquals(Long.MAX_VALUE, histogram.getMaxValue());
+    }
+
+    @DisplayName("다른 히스토그램을 더하면 버킷별 개수가 합쳐지고 reset 하면 비워진다")
+    @Test
+    void addAndReset() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        LatencyHistogram other = new LatencyHistogram();
+        histogram.record(10);
+        other.record(1000, 3);
+
+        // when
+        histogram.add(other);
+        long total = histogram.getTotalCount();
+        long p50 = histogram.getValueAtPercentile(50);
+        histogram.reset();
+
+        // then
+        Assertions.assertEquals(4, total);
+        Assertions.assertEquals(1007, p50);
+        Assertions.assertEquals(0, histogram.getTotalCount());
+    }
+}
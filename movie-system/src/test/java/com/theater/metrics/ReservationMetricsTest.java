@@ -0,0 +1,88 @@
+package com.theater.metrics;
+
+import com.theater.customer.Customer;
+import com.theater.money.Money;
+import com.theater.movie.Movie;
+import com.theater.movie.MovieType;
+import com.theater.movie.discount.SequenceCondition;
+import com.theater.reservation.ReservationAgency;
+import com.theater.reservation.ReservationRequest;
+import com.theater.reservation.ReservationResult;
+import com.theater.screening.Screening;
+import com.theater.screening.SeatInventory;
+import com.theater.screening.exception.NotEnoughSeatsException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+class ReservationMetricsTest {
+
+    private final ReservationMetrics metrics = new ReservationMetrics();
+    private final ReservationAgency reservationAgency = new ReservationAgency(metrics);
+
+    private Screening screening(int sequence, int capacity) {
+        return Screening.builder()
+                .movie(Movie.builder()
+                        .title("영화")
+                        .fee(Money.wons(10000))
+                        .discountAmount(Money.wons(1000))
+                        .discountConditions(List.of(SequenceCondition.builder()
+                                .sequence(1)
+                                .build()))
+                        .movieType(MovieType.AMOUNT_DISCOUNT)
+                        .build())
+                .sequence(sequence)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 10, 0))
+                .seatInventory(SeatInventory.of(capacity))
+                .build();
+    }
+
+    @DisplayName("성공한 예매만 예매 수, 관객 수, 매출, 할인 적용 횟수와 지연 시간에 기록한다")
+    @Test
+    void recordOnlySuccesses() {
+        // given
+        Screening discounted = screening(1, 5);
+        Screening full = screening(2, 5);
+        Customer customer = Customer.builder()
+                .id("test")
+                .name("이름")
+                .build();
+
+        // when
+        List<ReservationResult> results = reservationAgency.reserveAll(List.of(
+                new ReservationRequest(discounted, customer, 2),
+                new ReservationRequest(discounted, customer, 4),
+                new ReservationRequest(discounted, customer, 3)));
+        reservationAgency.reserve(full, customer, 1);
+        Assertions.assertThrows(NotEnoughSeatsException.class, () -> reservationAgency.reserve(full, customer, 5));
+        ReservationMetricsSnapshot snapshot = metrics.snapshot();
+
+        // then
+        Assertions.assertFalse(results.get(1).isSuccess());
+        Assertions.assertEquals(3, snapshot.getReservationCount());
+        Assertions.assertEquals(6, snapshot.getAudienceCount());
+        Assertions.assertEquals(Money.wons(5 * 9000 + 10000).getScaledAmount(), snapshot.getRevenue());
+        Assertions.assertEquals(3, metrics.getLatency().getTotalCount());
+        Assertions.assertEquals(2L, snapshot.getDiscountHitsByConditionType().get(SequenceCondition.class).longValue());
+        Assertions.assertEquals(2L, snapshot.getDiscountHitsByMovieType().get(MovieType.AMOUNT_DISCOUNT).longValue());
+        Assertions.assertEquals(0L, snapshot.getDiscountHitsByMovieType().get(MovieType.PERCENT_DISCOUNT).longValue());
+        Assertions.assertTrue(snapshot.getLatencyMax() >= snapshot.getLatencyP50());
+    }
+
+    @DisplayName("기록이 없으면 모든 지표가 0 이다")
+    @Test
+    void emptySnapshot() {
+        // when
+        ReservationMetricsSnapshot snapshot = metrics.snapshot();
+
+        // then
+        Assertions.assertEquals(0, snapshot.getReservationCount());
+        Assertions.assertEquals(0, snapshot.getRevenue());
+        Assertions.assertEquals(0, snapshot.getLatencyP99());
+        Assertions.assertTrue(snapshot.getDiscountHitsByConditionType().isEmpty());
+        Assertions.assertEquals(0L, snapshot.getDiscountHitsByMovieType().get(MovieType.NONE_DISCOUNT).longValue());
+    }
+}
@@ -0,0 +1,80 @@
+package com.theater.money;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+class MoneyTest {
+
+    @DisplayName("times 는 1/100 원 단위에서 HALF_UP 으로 반올림한다")
+    @Test
+    void timesRoundsHalfUp() {
+        // given
+        Money money = Money.scaled(1L);
+
+        // when
+        Money half = money.times(0.5);
+        Money belowHalf = money.times(0.49);
+        Money aboveHalf = Money.scaled(3L).times(0.5);
+
+        // then
+        Assertions.assertEquals(1L, half.getScaledAmount());
+        Assertions.assertEquals(0L, belowHalf.getScaledAmount());
+        Assertions.assertEquals(2L, aboveHalf.getScaledAmount());
+    }
+
+    @DisplayName("음수 금액은 0 에서 멀어지는 쪽으로 반올림한다")
+    @Test
+    void timesRoundsNegativeAwayFromZero() {
+        // given
+        Money money = Money.scaled(-1L);
+
+        // when
+        Money half = money.times(0.5);
+        Money belowHalf = money.times(0.49);
+
+        // then
+        Assertions.assertEquals(-1L, half.getScaledAmount());
+        Assertions.assertEquals(0L, belowHalf.getScaledAmount());
+        Assertions.assertEquals(Money.wons(-0.005), Money.scaled(-1L));
+    }
+
+    @DisplayName("대표 금액과 비율에서 times 는 BigDecimal HALF_UP 계산과 같은 값을 낸다")
+    @Test
+    void timesMatchesBigDecimal() {
+        // given
+        long[] amounts = {0L, 1L, 5L, 99L, 1_000_00L, 8_500_00L, 12_345_67L, -10_000_00L, -3L, 1_000_000_000_00L};
+        double[] percents = {0.0, 0.1, 0.15, 0.2, 0.25, 0.5, 0.9, 1.0, 1.5, 2.0, -0.5};
+
+        for (long amount : amounts) {
+            for (double percent : percents) {
+                // when
+                Money actual = Money.scaled(amount).times(percent);
+
+                // then
+                BigDecimal expected = BigDecimal.valueOf(amount, Money.SCALE)
+                        .multiply(BigDecimal.valueOf(percent))
+                        .setScale(Money.SCALE, RoundingMode.HALF_UP);
+                Assertions.assertEquals(expected, actual.getAmount(), amount + " x " + percent);
+            }
+        }
+    }
+
+    @DisplayName("long 범위를 넘는 연산은 ArithmeticException 을 던진다")
+    @Test
+    void overflow() {
+        // given
+        Money max = Money.scaled(Long.MAX_VALUE);
+
+        // when, then
+        Assertions.assertThrows(ArithmeticException.class, () -> max.times(2.0));
+        Assertions.assertThrows(ArithmeticException.class, () -> max.times(Double.NaN));
+        Assertions.assertThrows(ArithmeticException.class, () -> Money.scaled(1L).times(Double.POSITIVE_INFINITY));
+        Assertions.assertThrows(ArithmeticException.class, () -> max.plus(Money.scaled(1L)));
+        Assertions.assertThrows(ArithmeticException.class, () -> Money.scaled(Long.MIN_VALUE).minus(Money.scaled(1L)));
+        Assertions.assertThrows(ArithmeticException.class, () -> Money.wons(Long.MAX_VALUE / 10));
+    }
+}
@@ -0,0 +1,84 @@
+package com.theater.movie;
+
+import com.theater.money.Money;
+import com.theater.movie.discount.PeriodCondition;
+import com.theater.movie.discount.SequenceCondition;
+import com.theater.screening.Screening;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+class MoviePricingTest {
+
+    private final Movie movie = Movie.builder()
+            .title("영화")
+            .fee(Money.wons(10000))
+            .discountAmount(Money.ZERO)
+            .discountPercent(0.1)
+            .discountConditions(List.of(
+                    SequenceCondition.builder()
+                            .sequence(1)
+                            .build(),
+                    PeriodCondition.builder()
+                            .dayOfWeek(DayOfWeek.MONDAY)
+                            .startTime(LocalTime.of(10, 0))
+                            .endTime(LocalTime.of(12, 0))
+                            .build()))
+            .movieType(MovieType.PERCENT_DISCOUNT)
+            .build();
+
+    private List<Screening> screenings(int count) {
+        List<Screening> screenings = new ArrayList<>(count);
+        LocalDateTime start = LocalDateTime.of(2023, 1, 2, 0, 0);
+        for (int i = 0; i < count; i++) {
+            Screening screening = Screening.builder()
+                    .movie(movie)
+                    .sequence(i % 7)
+                    .whenScreened(start.plusMinutes(37L * i))
+                    .build();
+            if (i % 5 == 0) {
+                screening.setPriceMultiplier(1.25);
+            }
+            screenings.add(screening);
+        }
+        return screenings;
+    }
+
+    @DisplayName("병렬 계산 기준 아래에서 한꺼번에 계산한 요금은 상영별 요금과 같다")
+    @Test
+    void bulkBelowThreshold() {
+        assertSameAsSingle(screenings(MoviePricing.PARALLEL_PRICING_THRESHOLD - 1));
+    }
+
+    @DisplayName("병렬 계산 기준 이상에서 한꺼번에 계산한 요금은 상영별 요금과 같다")
+    @Test
+    void bulkAtThreshold() {
+        assertSameAsSingle(screenings(MoviePricing.PARALLEL_PRICING_THRESHOLD));
+    }
+
+    private void assertSameAsSingle(List<Screening> screenings) {
+        // when
+        long[] fees = movie.calculateMovieFees(screenings);
+
+        // then
+        Assertions.assertEquals(screenings.size(), fees.length);
+        boolean discounted = false;
+        boolean full = false;
+        boolean multiplied = false;
+        for (int i = 0; i < fees.length; i++) {
+            long expected = movie.calculateMovieFee(screenings.get(i)).getScaledAmount();
+            Assertions.assertEquals(expected, fees[i], "screening " + i);
+            Assertions.assertEquals(screenings.get(i).calculateMovieFee().getScaledAmount(), fees[i], "screening " + i);
+            discounted |= expected == Money.wons(9000).getScaledAmount();
+            full |= expected == Money.wons(10000).getScaledAmount();
+            multiplied |= expected == Money.wons(11250).getScaledAmount();
+        }
+        Assertions.assertTrue(discounted && full && multiplied);
+    }
+}
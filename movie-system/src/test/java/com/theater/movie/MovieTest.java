@@ -0,0 +1,174 @@
+package com.theater.movie;
+
+import com.theater.money.Money;
+import com.theater.reservation.Reservation;
+import com.theater.screening.Screening;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class MovieTest {
+
+    private Movie movie() {
+        return Movie.builder()
+                .title("영화")
+                .fee(Money.wons(10000))
+                .discountAmount(Money.wons(1000))
+                .discountConditions(List.of())
+                .movieType(MovieType.AMOUNT_DISCOUNT)
+                .build();
+    }
+
+    @DisplayName("요금 설정을 바꿀 때마다 버전이 하나씩 올라가고 여러 설정이 한 스냅샷에 함께 반영된다")
+    @Test
+    void updatePricingIncrementsVersion() {
+        // given
+        Movie movie = movie();
+        MoviePricing before = movie.getPricing();
+
+        // when
+        MoviePricing updated = movie.updatePricing(pricing -> pricing
+                .fee(Money.wons(20000))
+                .discountAmount(Money.wons(2000))
+                .movieType(MovieType.NONE_DISCOUNT));
+
+        // then
+        Assertions.assertEquals(0, before.getVersion());
+        Assertions.assertEquals(1, updated.getVersion());
+        Assertions.assertSame(updated, movie.getPricing());
+        Assertions.assertEquals(Money.wons(20000), updated.getFee());
+        Assertions.assertEquals(Money.wons(2000), updated.getDiscountAmount());
+        Assertions.assertEquals(MovieType.NONE_DISCOUNT, updated.getMovieType());
+        Assertions.assertEquals(Money.wons(10000), before.getFee());
+    }
+
+    @DisplayName("다른 갱신이 먼저 반영되면 최신 스냅샷에서 다시 갱신해 두 변경을 모두 남긴다")
+    @Test
+    void updatePricingRetriesOnConflict() {
+        // given
+        Movie movie = movie();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        MoviePricing updated = movie.updatePricing(pricing -> {
+            if (attempts.incrementAndGet() == 1) {
+                movie.setDiscountAmount(Money.wons(3000));
+            }
+            return pricing.fee(Money.wons(30000));
+        });
+
+        // then
+        Assertions.assertEquals(2, attempts.get());
+        Assertions.assertEquals(2, updated.getVersion());
+        Assertions.assertEquals(Money.wons(30000), updated.getFee());
+        Assertions.assertEquals(Money.wons(3000), updated.getDiscountAmount());
+    }
+
+    @DisplayName("동시에 갱신해도 갱신이 사라지지 않는다")
+    @Test
+    void concurrentUpdatesAreNotLost() throws Exception {
+        // given
+        Movie movie = movie();
+        int threads = 8;
+        int updates = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < updates; j++) {
+                    movie.setFee(Money.wons(10000 + j));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        Assertions.assertEquals((long) threads * updates, movie.getVersion());
+    }
+
+    @DisplayName("동시에 읽는 쪽은 여러 설정이 함께 바뀌기 전이나 후의 스냅샷만 본다")
+    @Test
+    void readersSeeConsistentSnapshots() throws Exception {
+        // given
+        Movie movie = movie();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> readers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            readers.add(executor.submit(() -> {
+                int torn = 0;
+                long lastVersion = -1;
+                while (running.get()) {
+                    MoviePricing pricing = movie.getPricing();
+                    if (pricing.getFee().getScaledAmount() != 10 * pricing.getDiscountAmount().getScaledAmount()
+                            || pricing.getVersion() < lastVersion) {
+                        torn++;
+                    }
+                    lastVersion = pricing.getVersion();
+                }
+                return torn;
+            }));
+        }
+
+        // when
+        Future<?> writer = executor.submit(() -> {
+            for (int i = 1; i <= 20000; i++) {
+                long wons = 10000L * (i % 3 + 1);
+                movie.updatePricing(pricing -> pricing
+                        .fee(Money.wons(wons))
+                        .discountAmount(Money.wons(wons / 10)));
+            }
+        });
+        writer.get();
+        running.set(false);
+
+        // then
+        for (Future<Integer> reader : readers) {
+            Assertions.assertEquals(0, reader.get().intValue());
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(20000, movie.getVersion());
+    }
+
+    @DisplayName("예매는 요금을 계산한 스냅샷의 버전을 기록하고 이후 요금 설정이 바뀌어도 그대로 남는다")
+    @Test
+    void reservationCarriesSnapshotVersion() {
+        // given
+        Movie movie = movie();
+        movie.setFee(Money.wons(12000));
+        Screening screening = Screening.builder()
+                .movie(movie)
+                .sequence(1)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 10, 0))
+                .build();
+
+        // when
+        Reservation reservation = screening.reserve(null, 2);
+        movie.setFee(Money.wons(15000));
+        Reservation repriced = screening.reserve(null, 2);
+
+        // then
+        Assertions.assertEquals(1, reservation.getPricingVersion());
+        Assertions.assertEquals(1, reservation.getScreeningFee().getPricingVersion());
+        Assertions.assertEquals(Money.wons(12000), reservation.getScreeningFee().getPricing().getFee());
+        Assertions.assertEquals(24000, reservation.getFee().getAmount().intValue());
+        Assertions.assertEquals(2, repriced.getPricingVersion());
+        Assertions.assertEquals(30000, repriced.getFee().getAmount().intValue());
+    }
+}
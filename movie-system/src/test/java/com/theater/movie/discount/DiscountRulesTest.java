@@ -0,0 +1,97 @@
+package com.theater.movie.discount;
+
+import com.theater.screening.Screening;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+class DiscountRulesTest {
+
+    private final List<DiscountCondition> conditions = List.of(
+            SequenceCondition.builder().sequence(1).build(),
+            SequenceCondition.builder().sequence(70).build(),
+            PeriodCondition.builder()
+                    .dayOfWeek(DayOfWeek.SUNDAY)
+                    .startTime(LocalTime.of(10, 0))
+                    .endTime(LocalTime.of(12, 0))
+                    .build(),
+            PeriodCondition.builder()
+                    .dayOfWeek(DayOfWeek.SUNDAY)
+                    .startTime(LocalTime.of(11, 30))
+                    .endTime(LocalTime.of(13, 0))
+                    .build());
+
+    @DisplayName("컴파일된 할인 규칙은 조건 목록을 하나씩 평가한 결과와 같다")
+    @Test
+    void sameResultAsConditions() {
+        // given
+        DiscountRules rules = DiscountRules.compile(conditions);
+
+        for (int sequence = 0; sequence < 100; sequence++) {
+            for (int minute = 0; minute < 24 * 60; minute += 7) {
+                Screening screening = Screening.builder()
+                        .sequence(sequence)
+                        .whenScreened(LocalDateTime.of(2023, 1, 1 + minute % 7, minute / 60, minute % 60))
+                        .build();
+
+                // when
+                boolean expected = conditions.stream().anyMatch(condition -> condition.isSatisfiedBy(screening));
+
+                // then
+                Assertions.assertEquals(expected, rules.isSatisfiedBy(screening));
+            }
+        }
+    }
+
+    @DisplayName("구간 경계의 시작 시각과 종료 시각도 할인 대상이다")
+    @Test
+    void inclusiveBoundary() {
+        // given
+        DiscountRules rules = DiscountRules.compile(conditions);
+
+        // when, then
+        Assertions.assertTrue(rules.isSatisfiedBy(screeningAt(LocalDateTime.of(2023, 1, 1, 10, 0))));
+        Assertions.assertTrue(rules.isSatisfiedBy(screeningAt(LocalDateTime.of(2023, 1, 1, 13, 0))));
+        Assertions.assertFalse(rules.isSatisfiedBy(screeningAt(LocalDateTime.of(2023, 1, 1, 13, 1))));
+        Assertions.assertFalse(rules.isSatisfiedBy(screeningAt(LocalDateTime.of(2023, 1, 2, 11, 0))));
+    }
+
+    @DisplayName("아주 큰 순번 조건도 비트셋을 키우지 않고 평가한다")
+    @Test
+    void largeSequence() {
+        // given
+        DiscountRules rules = DiscountRules.compile(List.of(
+                SequenceCondition.builder().sequence(Integer.MAX_VALUE).build(),
+                SequenceCondition.builder().sequence(DiscountRules.MAX_BITSET_SEQUENCE).build()));
+
+        // when, then
+        Assertions.assertTrue(rules.isSatisfiedBy(Screening.builder().sequence(Integer.MAX_VALUE).build()));
+        Assertions.assertTrue(rules.isSatisfiedBy(Screening.builder().sequence(DiscountRules.MAX_BITSET_SEQUENCE).build()));
+        Assertions.assertFalse(rules.isSatisfiedBy(Screening.builder().sequence(Integer.MAX_VALUE - 1).build()));
+    }
+
+    @DisplayName("기간 조건이 없으면 상영 시각이 없어도 할인 대상이 아니다")
+    @Test
+    void noPeriodWithoutScreeningTime() {
+        // given
+        Screening screening = Screening.builder()
+                .sequence(5)
+                .build();
+
+        // when, then
+        Assertions.assertFalse(DiscountRules.EMPTY.isSatisfiedBy(screening));
+        Assertions.assertFalse(DiscountRules.compile(List.of(SequenceCondition.builder().sequence(1).build())).isSatisfiedBy(screening));
+    }
+
+    private Screening screeningAt(LocalDateTime whenScreened) {
+        return Screening.builder()
+                .sequence(5)
+                .whenScreened(whenScreened)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.theater.pricing;
+
+import com.theater.customer.Customer;
+import com.theater.money.Money;
+import com.theater.movie.Movie;
+import com.theater.screening.Screening;
+import com.theater.screening.SeatInventory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+class DynamicPricingEngineTest {
+
+    private final Clock clock = Clock.fixed(LocalDateTime.of(2023, 1, 1, 9, 30).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private final SurgePricingPolicy policy = new SurgePricingPolicy(List.of(
+            SurgeTier.builder().minOccupancy(0.5).multiplier(1.2).build(),
+            SurgeTier.builder().minOccupancy(0.0).withinMinutes(20).multiplier(1.1).build()));
+
+    @DisplayName("다시 계산하기 전까지는 기존 배수로, 다시 계산한 뒤에는 점유율에 맞는 배수로 요금을 낸다")
+    @Test
+    void recompute() {
+        // given
+        Screening screening = Screening.builder()
+                .movie(Movie.builder()
+                        .title("영화")
+                        .fee(Money.wons(10000))
+                        .build())
+                .sequence(3)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 10, 0))
+                .seatInventory(SeatInventory.of(10))
+                .build();
+        DynamicPricingEngine engine = new DynamicPricingEngine(policy, clock);
+        engine.register(screening);
+        screening.reserve(Customer.builder().id("id").build(), 6);
+
+        // when, then
+        Assertions.assertEquals(Money.wons(10000), screening.calculateMovieFee());
+        engine.recompute();
+        Assertions.assertEquals(Money.wons(12000), screening.calculateMovieFee());
+        Assertions.assertEquals(Money.wons(24000), screening.reserve(Customer.builder().id("id").build(), 2).getFee());
+
+        engine.unregister(screening);
+        Assertions.assertEquals(Money.wons(10000), screening.calculateMovieFee());
+        engine.close();
+    }
+
+    @DisplayName("정책이 실패한 상영은 실패를 기록하고 기존 배수를 유지하며 다른 상영은 계속 계산한다")
+    @Test
+    void logPolicyFailure() {
+        // given
+        Screening failing = screening();
+        Screening priced = screening();
+        DynamicPricingEngine engine = new DynamicPricingEngine((screening, now) -> {
+            if (screening == failing) {
+                throw new IllegalStateException("policy failure");
+            }
+            return 1.5;
+        }, clock);
+        engine.register(failing);
+        engine.register(priced);
+        List<LogRecord> records = new ArrayList<>();
+        Logger logger = Logger.getLogger(DynamicPricingEngine.class.getName());
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        logger.addHandler(handler);
+
+        // when
+        try {
+            engine.recompute();
+        } finally {
+            logger.removeHandler(handler);
+            engine.close();
+        }
+
+        // then
+        Assertions.assertEquals(1.0, failing.getPriceMultiplier());
+        Assertions.assertEquals(1.5, priced.getPriceMultiplier());
+        Assertions.assertEquals(1, records.size());
+        Assertions.assertEquals("policy failure", records.get(0).getThrown().getMessage());
+    }
+
+    @DisplayName("주기가 0 이하면 시작하지 않는다")
+    @Test
+    void rejectNonPositivePeriod() {
+        // given
+        DynamicPricingEngine engine = new DynamicPricingEngine(policy, clock);
+
+        // when, then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> engine.start(Duration.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> engine.start(Duration.ofNanos(-1)));
+        engine.close();
+    }
+
+    private Screening screening() {
+        return Screening.builder()
+                .movie(Movie.builder()
+                        .title("영화")
+                        .fee(Money.wons(10000))
+                        .build())
+                .sequence(1)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 10, 0))
+                .seatInventory(SeatInventory.of(10))
+                .build();
+    }
+}
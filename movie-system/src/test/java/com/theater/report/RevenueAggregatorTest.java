@@ -0,0 +1,145 @@
+package com.theater.report;
+
+import com.theater.customer.Customer;
+import com.theater.money.Money;
+import com.theater.movie.Movie;
+import com.theater.movie.MovieType;
+import com.theater.reservation.Reservation;
+import com.theater.reservation.ReservationAgency;
+import com.theater.screening.Screening;
+import com.theater.screening.SeatInventory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class RevenueAggregatorTest {
+
+    private final Movie movie = Movie.builder()
+            .title("영화")
+            .fee(Money.wons(10000))
+            .discountAmount(Money.ZERO)
+            .discountConditions(List.of())
+            .movieType(MovieType.NONE_DISCOUNT)
+            .build();
+
+    private final Customer customer = Customer.builder()
+            .id("test")
+            .name("이름")
+            .build();
+
+    private final LocalDateTime morning = LocalDateTime.of(2023, 1, 1, 10, 0);
+
+    private Screening screening(String auditorium, LocalDateTime whenScreened) {
+        return Screening.builder()
+                .movie(movie)
+                .sequence(1)
+                .auditorium(auditorium)
+                .whenScreened(whenScreened)
+                .seatInventory(SeatInventory.of(10))
+                .build();
+    }
+
+    @DisplayName("같은 영화를 같은 시각에 다른 상영관에서 상영해도 상영별 누계는 따로 쌓인다")
+    @Test
+    void totalsPerScreening() {
+        // given
+        RevenueAggregator aggregator = new RevenueAggregator();
+        ReservationAgency agency = new ReservationAgency();
+        agency.addListener(aggregator);
+        Screening first = screening("1관", morning);
+        Screening second = screening("2관", morning);
+
+        // when
+        agency.reserve(first, customer, 2);
+        agency.reserve(first, customer, 3);
+        agency.reserve(second, customer, 1);
+
+        // then
+        Assertions.assertEquals(2, aggregator.revenueOf(first).getReservationCount());
+        Assertions.assertEquals(5, aggregator.revenueOf(first).getAudienceCount());
+        Assertions.assertEquals(Money.wons(50000).getScaledAmount(), aggregator.revenueOf(first).getRevenue());
+        Assertions.assertEquals(1, aggregator.revenueOf(second).getAudienceCount());
+        Assertions.assertEquals(0.5, aggregator.occupancyOf(first));
+        Assertions.assertEquals(0.1, aggregator.occupancyOf(second));
+    }
+
+    @DisplayName("상영일별, 영화·상영일별, 할인 정책별 누계를 함께 갱신한다")
+    @Test
+    void totalsPerDay() {
+        // given
+        RevenueAggregator aggregator = new RevenueAggregator();
+        ReservationAgency agency = new ReservationAgency();
+        agency.addListener(aggregator);
+
+        // when
+        agency.reserve(screening("1관", morning), customer, 2);
+        agency.reserve(screening("1관", morning.plusHours(3)), customer, 1);
+        agency.reserve(screening("1관", morning.plusDays(1)), customer, 4);
+
+        // then
+        LocalDate day = morning.toLocalDate();
+        Assertions.assertEquals(3, aggregator.revenueOf(day).getAudienceCount());
+        Assertions.assertEquals(Money.wons(30000).getScaledAmount(), aggregator.revenueOf("영화", day).getRevenue());
+        Assertions.assertEquals(4, aggregator.revenueOf(day.plusDays(1)).getAudienceCount());
+        Assertions.assertEquals(0, aggregator.revenueOf("다른 영화", day).getReservationCount());
+        Assertions.assertEquals(3, aggregator.revenueOf(MovieType.NONE_DISCOUNT).getReservationCount());
+    }
+
+    @DisplayName("할인 정책별 누계는 예매 요금을 계산한 스냅샷의 할인 정책으로 쌓는다")
+    @Test
+    void totalsPerPricedMovieType() {
+        // given
+        RevenueAggregator aggregator = new RevenueAggregator();
+        Screening screening = Screening.builder()
+                .movie(Movie.builder()
+                        .title("영화")
+                        .fee(Money.wons(10000))
+                        .discountAmount(Money.ZERO)
+                        .discountConditions(List.of())
+                        .movieType(MovieType.NONE_DISCOUNT)
+                        .build())
+                .sequence(1)
+                .whenScreened(morning)
+                .build();
+        Reservation reservation = screening.reserve(customer, 2);
+
+        // when
+        screening.getMovie().setMovieType(MovieType.PERCENT_DISCOUNT);
+        aggregator.onReserved(reservation);
+
+        // then
+        Assertions.assertEquals(1, aggregator.revenueOf(MovieType.NONE_DISCOUNT).getReservationCount());
+        Assertions.assertEquals(0, aggregator.revenueOf(MovieType.PERCENT_DISCOUNT).getReservationCount());
+    }
+
+    @DisplayName("따로 모은 누계를 합치면 한 곳에서 모은 것과 같다")
+    @Test
+    void merge() {
+        // given
+        Screening screening = screening("1관", morning);
+        RevenueAggregator left = new RevenueAggregator();
+        RevenueAggregator right = new RevenueAggregator();
+        ReservationAgency leftAgency = new ReservationAgency();
+        ReservationAgency rightAgency = new ReservationAgency();
+        leftAgency.addListener(left);
+        rightAgency.addListener(right);
+        leftAgency.reserve(screening, customer, 2);
+        rightAgency.reserve(screening, customer, 3);
+        rightAgency.reserve(screening("1관", morning.plusDays(1)), customer, 1);
+
+        // when
+        left.merge(right);
+
+        // then
+        Assertions.assertEquals(2, left.revenueOf(screening).getReservationCount());
+        Assertions.assertEquals(5, left.revenueOf(screening).getAudienceCount());
+        Assertions.assertEquals(5, left.revenueOf(morning.toLocalDate()).getAudienceCount());
+        Assertions.assertEquals(1, left.revenueOf(morning.toLocalDate().plusDays(1)).getAudienceCount());
+        Assertions.assertEquals(3, left.revenueOf(MovieType.NONE_DISCOUNT).getReservationCount());
+        Assertions.assertEquals(2, right.revenueOf(MovieType.NONE_DISCOUNT).getReservationCount());
+    }
+}
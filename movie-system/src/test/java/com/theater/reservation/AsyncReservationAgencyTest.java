@@ -0,0 +1,117 @@
+package com.theater.reservation;
+
+import com.theater.customer.Customer;
+import com.theater.money.Money;
+import com.theater.movie.Movie;
+import com.theater.movie.MovieType;
+import com.theater.screening.Screening;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+class AsyncReservationAgencyTest {
+
+    private final Screening screening = Screening.builder()
+            .movie(Movie.builder()
+                    .title("영화")
+                    .fee(Money.wons(10000))
+                    .discountAmount(Money.ZERO)
+                    .discountPercent(0.0)
+                    .discountConditions(List.of())
+                    .movieType(MovieType.NONE_DISCOUNT)
+                    .build())
+            .sequence(1)
+            .whenScreened(LocalDateTime.of(2023, 1, 1, 10, 0))
+            .build();
+
+    private final Customer customer = Customer.builder()
+            .id("test")
+            .name("이름")
+            .build();
+
+    /**
+     * 제출된 작업을 바로 실행하지 않고 runAll 을 부를 때까지 쌓아 둔다.
+     */
+    private static class QueuedExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    @DisplayName("처리 중인 예매 수가 한도에 닿으면 대기 시간이 없을 때 바로 거절한다")
+    @Test
+    void rejectWhenFull() {
+        // given
+        QueuedExecutor executor = new QueuedExecutor();
+        AsyncReservationAgency agency = new AsyncReservationAgency(new ReservationAgency(), executor, 1, Duration.ZERO);
+        CompletableFuture<Reservation> accepted = agency.reserve(screening, customer, 1);
+
+        // when
+        CompletableFuture<Reservation> rejected = agency.reserve(screening, customer, 1);
+
+        // then
+        Assertions.assertEquals(0, agency.getAvailablePermits());
+        Assertions.assertFalse(accepted.isDone());
+        Assertions.assertTrue(rejected.isCompletedExceptionally());
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, rejected::get);
+        Assertions.assertTrue(exception.getCause() instanceof RejectedExecutionException);
+    }
+
+    @DisplayName("앞선 예매가 끝나면 허가를 돌려받아 다음 예매를 받는다")
+    @Test
+    void releasePermitOnCompletion() throws Exception {
+        // given
+        QueuedExecutor executor = new QueuedExecutor();
+        AsyncReservationAgency agency = new AsyncReservationAgency(new ReservationAgency(), executor, 1, Duration.ZERO);
+        CompletableFuture<Reservation> first = agency.reserve(screening, customer, 1);
+
+        // when
+        executor.runAll();
+        CompletableFuture<Reservation> second = agency.reserve(screening, customer, 2);
+        executor.runAll();
+
+        // then
+        Assertions.assertEquals(1, agency.getAvailablePermits());
+        Assertions.assertEquals(10000, first.get().getFee().getAmount().intValue());
+        Assertions.assertEquals(20000, second.get().getFee().getAmount().intValue());
+        Assertions.assertEquals(2, agency.getStageStats().getCount(ReservationStage.EXECUTION));
+    }
+
+    @DisplayName("실행기가 작업을 거절하면 허가를 돌려주고 거절 예외로 끝낸다")
+    @Test
+    void releasePermitWhenExecutorRejects() {
+        // given
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("shutdown");
+        };
+        AsyncReservationAgency agency = new AsyncReservationAgency(new ReservationAgency(), rejecting, 1, Duration.ZERO);
+
+        // when
+        CompletableFuture<Reservation> future = agency.reserve(screening, customer, 1);
+
+        // then
+        Assertions.assertTrue(future.isCompletedExceptionally());
+        Assertions.assertEquals(1, agency.getAvailablePermits());
+    }
+}
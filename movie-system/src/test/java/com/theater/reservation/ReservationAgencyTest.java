@@ -1,11 +1,14 @@
 package com.theater.reservation;
 
 import com.theater.customer.Customer;
+import com.theater.customer.CustomerRegistry;
 import com.theater.money.Money;
 import com.theater.movie.Movie;
 import com.theater.movie.MovieType;
 import com.theater.movie.discount.PeriodCondition;
 import com.theater.screening.Screening;
+import com.theater.screening.SeatInventory;
+import com.theater.screening.exception.NotEnoughSeatsException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 
 class ReservationAgencyTest {
@@ -55,4 +59,151 @@ class ReservationAgencyTest {
         Assertions.assertEquals(reserveation.getAudienceCount(), audienceCount);
         Assertions.assertEquals(reserveation.getFee().getAmount().intValue(), 20000);
     }
-}
\ No newline at end of file
+
+    @DisplayName("일괄 예매는 좌석이 남는 요청까지만 성공시키고 나머지는 실패로 돌려준다")
+    @Test
+    void reserveAllWithPartialFailure() {
+        // given
+        Screening screening = Screening.builder()
+                .movie(Movie.builder()
+                        .title("영화")
+                        .fee(Money.wons(10000))
+                        .discountAmount(Money.wons(1000))
+                        .discountConditions(List.of())
+                        .movieType(MovieType.AMOUNT_DISCOUNT)
+                        .build())
+                .sequence(1)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 1, 30, 0))
+                .seatInventory(SeatInventory.of(5))
+                .build();
+        Customer customer = Customer.builder()
+                .id("test")
+                .name("이름")
+                .build();
+        List<ReservationRequest> requests = List.of(
+                new ReservationRequest(screening, customer, 2),
+                new ReservationRequest(screening, customer, 4),
+                new ReservationRequest(screening, customer, 3));
+
+        // when
+        List<ReservationResult> results = reservationAgency.reserveAll(requests);
+
+        // then
+        Assertions.assertTrue(results.get(0).isSuccess());
+        Assertions.assertEquals(results.get(0).getReservation().getFee().getAmount().intValue(), 20000);
+        Assertions.assertFalse(results.get(1).isSuccess());
+        Assertions.assertTrue(results.get(1).getFailure() instanceof NotEnoughSeatsException);
+        Assertions.assertTrue(results.get(2).isSuccess());
+        Assertions.assertEquals(screening.getSeatInventory().getRemaining(), 0);
+    }
+
+    @DisplayName("등록할 수 없는 고객의 예매는 좌석을 선점하기 전에 실패한다")
+    @Test
+    void rejectUnregistrableCustomerBeforeHold() {
+        // given
+        ReservationAgency agency = new ReservationAgency(null, new CustomerRegistry());
+        Screening screening = screening(5);
+        Customer noId = Customer.builder()
+                .name("이름")
+                .build();
+        Customer customer = Customer.builder()
+                .id("test")
+                .name("이름")
+                .build();
+
+        // when
+        List<ReservationResult> results = agency.reserveAll(List.of(
+                new ReservationRequest(screening, customer, 2),
+                new ReservationRequest(screening, noId, 2),
+                new ReservationRequest(screening, customer, 1)));
+
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> agency.reserve(screening, noId, 1));
+        Assertions.assertTrue(results.get(0).isSuccess());
+        Assertions.assertTrue(results.get(1).getFailure() instanceof IllegalArgumentException);
+        Assertions.assertTrue(results.get(2).isSuccess());
+        Assertions.assertNotEquals(CustomerRegistry.NO_HANDLE, results.get(2).getReservation().getCustomerHandle());
+        Assertions.assertEquals(3, screening.getSeatInventory().getReserved());
+    }
+
+    @DisplayName("리스너가 예외를 던져도 예매는 성공하고 다른 리스너와 일괄 예매의 나머지 결과는 그대로 남는다")
+    @Test
+    void isolateListenerFailure() {
+        // given
+        ReservationAgency agency = new ReservationAgency();
+        List<Reservation> notified = new ArrayList<>();
+        agency.addListener(reservation -> {
+            throw new IllegalStateException("listener failure");
+        });
+        agency.addListener(notified::add);
+        Screening screening = screening(5);
+        Customer customer = Customer.builder()
+                .id("test")
+                .name("이름")
+                .build();
+
+        // when
+        Reservation reservation = agency.reserve(screening, customer, 1);
+        List<ReservationResult> results = agency.reserveAll(List.of(
+                new ReservationRequest(screening, customer, 2),
+                new ReservationRequest(screening, customer, 2)));
+
+        // then
+        Assertions.assertNotNull(reservation);
+        Assertions.assertTrue(results.get(0).isSuccess());
+        Assertions.assertTrue(results.get(1).isSuccess());
+        Assertions.assertEquals(3, notified.size());
+        Assertions.assertEquals(0, screening.getSeatInventory().getRemaining());
+    }
+
+    @DisplayName("일괄 예매 중 예매를 만들지 못한 요청은 좌석을 돌려놓고 실패로 기록하며 나머지 요청은 계속 처리한다")
+    @Test
+    void releaseSeatsOfFailedConfirm() {
+        // given
+        Screening screening = Screening.builder()
+                .movie(Movie.builder()
+                        .title("영화")
+                        .fee(Money.scaled(Long.MAX_VALUE / 4))
+                        .discountAmount(Money.ZERO)
+                        .discountConditions(List.of())
+                        .movieType(MovieType.NONE_DISCOUNT)
+                        .build())
+                .sequence(1)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 1, 30, 0))
+                .seatInventory(SeatInventory.of(10))
+                .build();
+        Customer customer = Customer.builder()
+                .id("test")
+                .name("이름")
+                .build();
+
+        // when
+        List<ReservationResult> results = reservationAgency.reserveAll(List.of(
+                new ReservationRequest(screening, customer, 1),
+                new ReservationRequest(screening, customer, 5),
+                new ReservationRequest(screening, customer, 1)));
+
+        // then
+        Assertions.assertTrue(results.get(0).isSuccess());
+        Assertions.assertTrue(results.get(1).getFailure() instanceof ArithmeticException);
+        Assertions.assertTrue(results.get(2).isSuccess());
+        Assertions.assertEquals(2, screening.getSeatInventory().getReserved());
+        Assertions.assertThrows(ArithmeticException.class, () -> reservationAgency.reserve(screening, customer, 5));
+        Assertions.assertEquals(2, screening.getSeatInventory().getReserved());
+    }
+
+    private Screening screening(int capacity) {
+        return Screening.builder()
+                .movie(Movie.builder()
+                        .title("영화")
+                        .fee(Money.wons(10000))
+                        .discountAmount(Money.ZERO)
+                        .discountConditions(List.of())
+                        .movieType(MovieType.NONE_DISCOUNT)
+                        .build())
+                .sequence(1)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 1, 30, 0))
+                .seatInventory(SeatInventory.of(capacity))
+                .build();
+    }
+}
@@ -0,0 +1,170 @@
+package com.theater.reservation.columnar;
+
+import com.theater.customer.Customer;
+import com.theater.money.Money;
+import com.theater.movie.Movie;
+import com.theater.movie.MovieType;
+import com.theater.reservation.Reservation;
+import com.theater.screening.Screening;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+class ColumnarReservationStoreTest {
+
+    private final Movie movie = Movie.builder()
+            .title("영화")
+            .fee(Money.wons(10000))
+            .discountAmount(Money.ZERO)
+            .discountConditions(List.of())
+            .movieType(MovieType.NONE_DISCOUNT)
+            .build();
+
+    private final Screening first = screening(LocalDateTime.of(2023, 1, 1, 10, 0));
+    private final Screening second = screening(LocalDateTime.of(2023, 1, 1, 13, 0));
+
+    private Screening screening(LocalDateTime whenScreened) {
+        return Screening.builder()
+                .movie(movie)
+                .sequence(1)
+                .whenScreened(whenScreened)
+                .build();
+    }
+
+    private Customer customer(String id, String name) {
+        return Customer.builder()
+                .id(id)
+                .name(name)
+                .build();
+    }
+
+    private Reservation reservation(Screening screening, Customer customer, long fee, int audienceCount, long pricingVersion) {
+        return Reservation.builder()
+                .customer(customer)
+                .screening(screening)
+                .fee(Money.scaled(fee))
+                .audienceCount(audienceCount)
+                .pricingVersion(pricingVersion)
+                .build();
+    }
+
+    @DisplayName("저장한 예매를 뷰로 읽으면 같은 값을 돌려준다")
+    @Test
+    void appendAndView() {
+        // given
+        ColumnarReservationStore store = new ColumnarReservationStore();
+        Customer customer = customer("고객-1", "이름");
+        Reservation reservation = reservation(first, customer, 2_000_000L, 2, 3L);
+
+        // when
+        int row = store.append(reservation);
+        ReservationView view = store.view(row);
+
+        // then
+        Assertions.assertEquals(0, row);
+        Assertions.assertSame(customer, view.getCustomer());
+        Assertions.assertSame(first, view.getScreening());
+        Assertions.assertEquals(Money.wons(20000), view.getFee());
+        Assertions.assertEquals(2, view.getAudienceCount());
+        Assertions.assertEquals(3L, view.getPricingVersion());
+        Reservation restored = view.toReservation();
+        Assertions.assertEquals(reservation.getFee(), restored.getFee());
+        Assertions.assertEquals(reservation.getAudienceCount(), restored.getAudienceCount());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> view.moveTo(1));
+    }
+
+    @DisplayName("요금이 관객 수로 나누어떨어지지 않거나 관객 수가 byte 범위를 넘어도 그대로 복원한다")
+    @Test
+    void irregularFeeAndLargeAudience() {
+        // given
+        ColumnarReservationStore store = new ColumnarReservationStore();
+        Customer customer = customer("고객-1", "이름");
+
+        // when
+        int uneven = store.append(reservation(first, customer, 1001L, 2, 1L));
+        int zero = store.append(reservation(first, customer, 500L, 0, 1L));
+        int large = store.append(reservation(second, customer, 1_000_000L, 1000, 2L));
+        int inline = store.append(reservation(second, customer, 254_000L, ColumnarReservationStore.MAX_INLINE_AUDIENCE_COUNT, 2L));
+
+        // then
+        Assertions.assertEquals(1001L, store.view(uneven).getScaledFee());
+        Assertions.assertEquals(500L, store.view(zero).getScaledFee());
+        Assertions.assertEquals(0, store.view(zero).getAudienceCount());
+        Assertions.assertEquals(1000, store.view(large).getAudienceCount());
+        Assertions.assertEquals(1_000_000L, store.view(large).getScaledFee());
+        Assertions.assertEquals(254, store.view(inline).getAudienceCount());
+        Assertions.assertEquals(254_000L, store.view(inline).getScaledFee());
+    }
+
+    @DisplayName("기본 용량을 넘겨 저장해도 모든 행과 상영별 매출이 유지된다")
+    @Test
+    void grow() {
+        // given
+        ColumnarReservationStore store = new ColumnarReservationStore();
+        int rows = 5000;
+
+        // when
+        for (int i = 0; i < rows; i++) {
+            Screening screening = i % 2 == 0 ? first : second;
+            store.append(reservation(screening, customer("고객-" + (i % 100), "이름"), 1000L * (i % 3 + 1), i % 3 + 1, i % 4));
+        }
+
+        // then
+        Assertions.assertEquals(rows, store.size());
+        ReservationView view = store.view(4321);
+        Assertions.assertEquals("고객-21", view.getCustomer().getId());
+        Assertions.assertSame(second, view.getScreening());
+        Assertions.assertEquals(1000L * (4321 % 3 + 1), view.getScaledFee());
+        Assertions.assertEquals(4321 % 4, view.getPricingVersion());
+
+        long[] revenue = store.revenueByScreening();
+        Assertions.assertEquals(store.totalRevenue(), revenue[0] + revenue[1]);
+        Assertions.assertEquals(store.revenueOf(first), revenue[0]);
+        Assertions.assertSame(first, store.screeningAt(0));
+        Assertions.assertEquals(0, store.revenueOf(screening(LocalDateTime.of(2023, 1, 2, 10, 0))));
+    }
+
+    @DisplayName("고객 사전은 id 로만 구분해 같은 id 면 처음 저장한 고객을 돌려준다")
+    @Test
+    void customerDictionaryByIdOnly() {
+        // given
+        ColumnarReservationStore store = new ColumnarReservationStore();
+        Customer original = customer("고객-1", "이름");
+        Customer renamed = customer("고객-1", "다른 이름");
+        Customer other = customer("고객-2", "이름");
+
+        // when
+        int firstRow = store.append(reservation(first, original, 1000L, 1, 1L));
+        int renamedRow = store.append(reservation(first, renamed, 1000L, 1, 1L));
+        int otherRow = store.append(reservation(first, other, 1000L, 1, 1L));
+        int anonymousRow = store.append(reservation(first, null, 1000L, 1, 1L));
+
+        // then
+        Assertions.assertSame(original, store.view(firstRow).getCustomer());
+        Assertions.assertSame(original, store.view(renamedRow).getCustomer());
+        Assertions.assertSame(other, store.view(otherRow).getCustomer());
+        Assertions.assertNull(store.view(anonymousRow).getCustomer());
+    }
+
+    @DisplayName("forEach 는 하나의 뷰를 옮겨 가며 모든 행을 순서대로 보여준다")
+    @Test
+    void forEachRow() {
+        // given
+        ColumnarReservationStore store = new ColumnarReservationStore();
+        for (int i = 1; i <= 3; i++) {
+            store.append(reservation(first, customer("고객", "이름"), 1000L * i, i, 1L));
+        }
+        int[] audienceCounts = new int[3];
+
+        // when
+        store.forEach(view -> audienceCounts[view.getRow()] = view.getAudienceCount());
+
+        // then
+        Assertions.assertEquals(1, audienceCounts[0]);
+        Assertions.assertEquals(2, audienceCounts[1]);
+        Assertions.assertEquals(3, audienceCounts[2]);
+    }
+}
@@ -0,0 +1,240 @@
+package com.theater.reservation.journal;
+
+import com.theater.customer.Customer;
+import com.theater.money.Money;
+import com.theater.movie.Movie;
+import com.theater.movie.MovieType;
+import com.theater.reservation.Reservation;
+import com.theater.screening.Screening;
+import com.theater.screening.ScreeningCatalog;
+import com.theater.screening.SeatInventory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+class ReservationJournalTest {
+
+    private final Movie movie = Movie.builder()
+            .title("영화")
+            .fee(Money.wons(10000))
+            .discountAmount(Money.ZERO)
+            .discountPercent(0.0)
+            .discountConditions(List.of())
+            .movieType(MovieType.NONE_DISCOUNT)
+            .build();
+
+    private final Screening first = screening(1L);
+    private final Screening second = screening(2L);
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @DisplayName("다시 열면 기록된 레코드 뒤부터 이어 쓰고, 재생하면 상영별 좌석 수가 나온다")
+    @Test
+    void reopenAndReplay() throws IOException {
+        // given
+        try (ReservationJournal journal = ReservationJournal.open(directory, 16)) {
+            journal.commit(reservation(first, "고객-1", 2));
+            journal.commit(reservation(second, "고객-2", 3));
+        }
+
+        // when
+        long sequence;
+        try (ReservationJournal journal = ReservationJournal.open(directory, 16)) {
+            Assertions.assertEquals(2, journal.getDurableSequence());
+            sequence = journal.commit(reservation(first, "고객-3", 1));
+        }
+
+        // then
+        Assertions.assertEquals(3, sequence);
+        Assertions.assertEquals(Map.of(1L, 3, 2L, 3), ReservationJournal.replaySeatCounts(directory));
+        List<String> customerIds = new ArrayList<>();
+        ReservationJournal.replay(directory, (screeningId, customerId, fee, audienceCount) -> customerIds.add(customerId));
+        Assertions.assertEquals(List.of("고객-1", "고객-2", "고객-3"), customerIds);
+    }
+
+    @DisplayName("세그먼트가 가득 차면 다음 세그먼트로 넘어가고 재생은 세그먼트 순서를 따른다")
+    @Test
+    void rollSegment() throws IOException {
+        // given
+        try (ReservationJournal journal = ReservationJournal.open(directory, 2)) {
+            for (int i = 1; i <= 5; i++) {
+                journal.commit(reservation(first, "고객-" + i, i));
+            }
+        }
+
+        // when
+        List<Integer> audienceCounts = new ArrayList<>();
+        ReservationJournal.replay(directory, (screeningId, customerId, fee, audienceCount) -> audienceCounts.add(audienceCount));
+
+        // then
+        try (Stream<Path> files = Files.list(directory)) {
+            Assertions.assertEquals(3, files.count());
+        }
+        Assertions.assertEquals(List.of(1, 2, 3, 4, 5), audienceCounts);
+        try (ReservationJournal journal = ReservationJournal.open(directory, 2)) {
+            Assertions.assertEquals(6, journal.commit(reservation(first, "고객-6", 6)));
+        }
+    }
+
+    @DisplayName("기록이 끊긴 마지막 레코드는 다시 열 때 버리고 그 자리에 이어 쓴다")
+    @Test
+    void ignoreTornTail() throws IOException {
+        // given
+        try (ReservationJournal journal = ReservationJournal.open(directory, 16)) {
+            journal.commit(reservation(first, "고객-1", 2));
+            journal.commit(reservation(second, "고객-2", 3));
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F, 0x7F}), ReservationJournal.RECORD_SIZE + 8);
+        }
+
+        // when
+        long sequence;
+        try (ReservationJournal journal = ReservationJournal.open(directory, 16)) {
+            Assertions.assertEquals(1, journal.getDurableSequence());
+            sequence = journal.commit(reservation(first, "고객-3", 4));
+        }
+
+        // then
+        Assertions.assertEquals(2, sequence);
+        Assertions.assertEquals(Map.of(1L, 6), ReservationJournal.replaySeatCounts(directory));
+    }
+
+    @DisplayName("여러 스레드가 동시에 commit 해도 모든 레코드가 반영되고 반영 순번은 뒤로 가지 않는다")
+    @Test
+    void concurrentCommit() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        try (ReservationJournal journal = ReservationJournal.open(directory, 64)) {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long lastSeen = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        long sequence = journal.commit(reservation(first, "고객", 1));
+                        long durable = journal.getDurableSequence();
+                        Assertions.assertTrue(durable >= sequence);
+                        Assertions.assertTrue(durable >= lastSeen);
+                        lastSeen = durable;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // then
+            Assertions.assertEquals((long) threads * perThread, journal.getDurableSequence());
+        }
+        Assertions.assertEquals(Map.of(1L, threads * perThread), ReservationJournal.replaySeatCounts(directory));
+    }
+
+    @DisplayName("저널의 좌석 수를 상영 목록의 좌석 재고에 다시 선점하고, 목록에 없는 상영은 돌려준다")
+    @Test
+    void restoreSeats() throws IOException {
+        // given
+        Screening unknown = screening(3L);
+        try (ReservationJournal journal = ReservationJournal.open(directory, 16)) {
+            journal.commit(reservation(first, "고객-1", 2));
+            journal.commit(reservation(first, "고객-2", 3));
+            journal.commit(reservation(unknown, "고객-3", 1));
+        }
+        Screening restarted = Screening.builder()
+                .id(1L)
+                .movie(movie)
+                .whenScreened(first.getWhenScreened())
+                .seatInventory(SeatInventory.of(10))
+                .build();
+        ScreeningCatalog catalog = new ScreeningCatalog();
+        catalog.add(restarted);
+
+        // when
+        Map<Long, Integer> unrestored = ReservationJournal.restoreSeats(directory, catalog);
+
+        // then
+        Assertions.assertEquals(5, restarted.getSeatInventory().getReserved());
+        Assertions.assertEquals(Map.of(3L, 1), unrestored);
+    }
+
+    @DisplayName("정원을 넘는 좌석 수가 기록된 상영은 복구하지 않고 예외를 던진다")
+    @Test
+    void restoreSeatsOverCapacity() throws IOException {
+        // given
+        try (ReservationJournal journal = ReservationJournal.open(directory, 16)) {
+            journal.commit(reservation(first, "고객-1", 5));
+        }
+        ScreeningCatalog catalog = new ScreeningCatalog();
+        catalog.add(Screening.builder()
+                .id(1L)
+                .movie(movie)
+                .whenScreened(first.getWhenScreened())
+                .seatInventory(SeatInventory.of(4))
+                .build());
+
+        // when, then
+        Assertions.assertThrows(IllegalStateException.class, () -> ReservationJournal.restoreSeats(directory, catalog));
+    }
+
+    private Screening screening(long id) {
+        return Screening.builder()
+                .id(id)
+                .movie(movie)
+                .sequence(1)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 10, 0).plusHours(id))
+                .build();
+    }
+
+    private Reservation reservation(Screening screening, String customerId, int audienceCount) {
+        return Reservation.builder()
+                .customer(Customer.builder()
+                        .id(customerId)
+                        .name("이름")
+                        .build())
+                .screening(screening)
+                .fee(Money.wons(10000).times(audienceCount))
+                .audienceCount(audienceCount)
+                .build();
+    }
+}
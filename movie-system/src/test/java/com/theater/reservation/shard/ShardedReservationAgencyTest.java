@@ -0,0 +1,168 @@
+package com.theater.reservation.shard;
+
+import com.theater.customer.Customer;
+import com.theater.money.Money;
+import com.theater.movie.Movie;
+import com.theater.movie.MovieType;
+import com.theater.reservation.Reservation;
+import com.theater.reservation.ReservationAgency;
+import com.theater.screening.Screening;
+import com.theater.screening.ScreeningCatalog;
+import com.theater.screening.SeatInventory;
+import com.theater.screening.exception.NotEnoughSeatsException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+class ShardedReservationAgencyTest {
+
+    private final Customer customer = Customer.builder()
+            .id("test")
+            .name("이름")
+            .build();
+
+    @DisplayName("같은 상영의 예매는 항상 같은 샤드에서 처리된다")
+    @Test
+    void routeSameScreeningToSameShard() {
+        // given
+        Screening screening = screening(10);
+        try (ShardedReservationAgency agency = new ShardedReservationAgency(List.of(
+                new ReservationShard("shard-0", new ReservationAgency()),
+                new ReservationShard("shard-1", new ReservationAgency()),
+                new ReservationShard("shard-2", new ReservationAgency())))) {
+
+            // when
+            ShardTransport shard = agency.shardOf(screening);
+            Reservation reservation = agency.reserve(screening, customer, 2);
+
+            // then
+            Assertions.assertSame(shard, agency.shardOf(screening));
+            Assertions.assertEquals(reservation.getFee().getAmount().intValue(), 20000);
+            Assertions.assertThrows(NotEnoughSeatsException.class, () -> agency.reserve(screening, customer, 9));
+        }
+    }
+
+    @DisplayName("소켓으로 연결된 샤드도 같은 방식으로 예매한다")
+    @Test
+    void reserveThroughSocketShard() throws IOException {
+        // given
+        Screening screening = screening(3);
+        ScreeningCatalog catalog = new ScreeningCatalog();
+        catalog.add(screening);
+        ReservationShard remoteShard = new ReservationShard("remote-shard", new ReservationAgency());
+
+        try (ShardServer server = new ShardServer(catalog, remoteShard, 0).start();
+             ShardedReservationAgency agency = new ShardedReservationAgency(List.of(
+                     new SocketShardTransport("localhost", server.getPort())))) {
+
+            // when
+            Reservation reservation = agency.reserve(screening, customer, 2);
+
+            // then
+            Assertions.assertEquals(reservation.getFee().getAmount().intValue(), 20000);
+            Assertions.assertEquals(reservation.getCustomer().getId(), "test");
+            Assertions.assertEquals(screening.getSeatInventory().getRemaining(), 1);
+            Assertions.assertThrows(NotEnoughSeatsException.class, () -> agency.reserve(screening, customer, 2));
+        } finally {
+            remoteShard.close();
+        }
+    }
+
+    @DisplayName("샤드에서 어떤 예외가 나도 실패 응답을 돌려주고 연결은 유지된다")
+    @Test
+    void replyFailureFrameForAnyException() throws IOException {
+        // given
+        Screening screening = screening(3);
+        ScreeningCatalog catalog = new ScreeningCatalog();
+        catalog.add(screening);
+        ReservationShard closedShard = new ReservationShard("closed-shard", new ReservationAgency());
+        closedShard.close();
+
+        try (ShardServer server = new ShardServer(catalog, closedShard, 0).start();
+             SocketShardTransport transport = new SocketShardTransport("localhost", server.getPort())) {
+
+            // when
+            CompletionException first = Assertions.assertThrows(CompletionException.class,
+                    () -> transport.reserve(screening, customer, 1).join());
+            CompletionException second = Assertions.assertThrows(CompletionException.class,
+                    () -> transport.reserve(screening, customer, 1).join());
+
+            // then
+            Assertions.assertTrue(first.getCause() instanceof IllegalStateException);
+            Assertions.assertTrue(first.getCause().getMessage().startsWith("RejectedExecutionException"));
+            Assertions.assertTrue(second.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @DisplayName("서버를 닫으면 받아 둔 연결도 닫혀 이후 요청은 실패한다")
+    @Test
+    void closeAcceptedConnections() throws IOException {
+        // given
+        Screening screening = screening(3);
+        ScreeningCatalog catalog = new ScreeningCatalog();
+        catalog.add(screening);
+        ReservationShard remoteShard = new ReservationShard("remote-shard", new ReservationAgency());
+        ShardServer server = new ShardServer(catalog, remoteShard, 0).start();
+
+        try (SocketShardTransport transport = new SocketShardTransport("localhost", server.getPort())) {
+            transport.reserve(screening, customer, 1).join();
+
+            // when
+            server.close();
+            CompletionException closed = Assertions.assertThrows(CompletionException.class,
+                    () -> transport.reserve(screening, customer, 1).join());
+
+            // then
+            Assertions.assertTrue(closed.getCause() instanceof UncheckedIOException);
+            Assertions.assertEquals(1, screening.getSeatInventory().getReserved());
+        } finally {
+            remoteShard.close();
+        }
+    }
+
+    @DisplayName("응답이 제한 시간 안에 오지 않으면 연결을 닫고 실패한다")
+    @Test
+    void readTimeout() throws Exception {
+        // given
+        try (ServerSocket silent = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+             SocketShardTransport transport = new SocketShardTransport("localhost", silent.getLocalPort(), Duration.ofMillis(100));
+             Socket accepted = silent.accept()) {
+
+            // when
+            CompletionException timeout = Assertions.assertThrows(CompletionException.class,
+                    () -> transport.reserve(screening(1), customer, 1).join());
+            CompletionException closed = Assertions.assertThrows(CompletionException.class,
+                    () -> transport.reserve(screening(1), customer, 1).join());
+
+            // then
+            Assertions.assertTrue(timeout.getCause() instanceof UncheckedIOException);
+            Assertions.assertTrue(timeout.getCause().getCause() instanceof SocketTimeoutException);
+            Assertions.assertTrue(closed.getCause() instanceof UncheckedIOException);
+        }
+    }
+
+    private Screening screening(int capacity) {
+        return Screening.builder()
+                .movie(Movie.builder()
+                        .title("영화")
+                        .fee(Money.wons(10000))
+                        .discountConditions(List.of())
+                        .movieType(MovieType.NONE_DISCOUNT)
+                        .build())
+                .sequence(1)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 1, 30, 0))
+                .seatInventory(SeatInventory.of(capacity))
+                .build();
+    }
+}
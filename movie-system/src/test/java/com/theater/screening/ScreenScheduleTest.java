@@ -0,0 +1,88 @@
+package com.theater.screening;
+
+import com.theater.money.Money;
+import com.theater.movie.Duration;
+import com.theater.movie.Movie;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+class ScreenScheduleTest {
+
+    private final Movie movie = Movie.builder()
+            .title("movie")
+            .runningTime(Duration.minutes(120))
+            .fee(Money.wons(10000))
+            .build();
+
+    @DisplayName("같은 상영관에서 상영 시간이 겹치는 상영만 충돌로 찾는다")
+    @Test
+    void validate() {
+        // given
+        Screening first = screening("1관", LocalDateTime.of(2023, 1, 1, 10, 0));
+        Screening overlapping = screening("1관", LocalDateTime.of(2023, 1, 1, 11, 0));
+        Screening afterEnd = screening("1관", LocalDateTime.of(2023, 1, 1, 13, 0));
+        Screening otherAuditorium = screening("2관", LocalDateTime.of(2023, 1, 1, 10, 30));
+
+        // when
+        List<ScheduleConflict> conflicts = ScreenSchedule.validate(List.of(afterEnd, otherAuditorium, overlapping, first));
+
+        // then
+        Assertions.assertEquals(1, conflicts.size());
+        Assertions.assertSame(first, conflicts.get(0).getEarlier());
+        Assertions.assertSame(overlapping, conflicts.get(0).getLater());
+    }
+
+    @DisplayName("겹치는 상영은 시간표에 등록되지 않는다")
+    @Test
+    void addRejectsOverlap() {
+        // given
+        ScreenSchedule schedule = new ScreenSchedule();
+        Screening first = screening("1관", LocalDateTime.of(2023, 1, 1, 10, 0));
+        Screening next = screening("1관", LocalDateTime.of(2023, 1, 1, 12, 0));
+        schedule.add(first);
+
+        // when, then
+        Assertions.assertTrue(schedule.add(screening("1관", LocalDateTime.of(2023, 1, 1, 9, 0))).isPresent());
+        Assertions.assertTrue(schedule.add(next).isEmpty());
+        Assertions.assertEquals(List.of(first, next), schedule.findByAuditorium("1관"));
+    }
+
+    @DisplayName("시작 시각이 같은 상영은 상영 시간이 없어도 add 와 validate 모두 충돌로 본다")
+    @Test
+    void equalStartConflicts() {
+        // given
+        Movie noRunningTime = Movie.builder()
+                .title("no running time")
+                .fee(Money.wons(10000))
+                .build();
+        Screening earlier = screening(movie, "1관", LocalDateTime.of(2023, 1, 1, 9, 0));
+        Screening first = screening(noRunningTime, "1관", LocalDateTime.of(2023, 1, 1, 11, 0));
+        Screening second = screening(noRunningTime, "1관", LocalDateTime.of(2023, 1, 1, 11, 0));
+        ScreenSchedule schedule = new ScreenSchedule();
+        schedule.add(first);
+
+        // when
+        List<ScheduleConflict> conflicts = ScreenSchedule.validate(List.of(earlier, first, second));
+
+        // then
+        Assertions.assertTrue(schedule.add(second).isPresent());
+        Assertions.assertEquals(1, conflicts.size());
+        Assertions.assertSame(second, conflicts.get(0).getLater());
+    }
+
+    private Screening screening(String auditorium, LocalDateTime whenScreened) {
+        return screening(movie, auditorium, whenScreened);
+    }
+
+    private Screening screening(Movie movie, String auditorium, LocalDateTime whenScreened) {
+        return Screening.builder()
+                .movie(movie)
+                .auditorium(auditorium)
+                .whenScreened(whenScreened)
+                .build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.theater.screening;
+
+import com.theater.money.Money;
+import com.theater.movie.Movie;
+import com.theater.movie.MovieType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+class ScreeningCatalogTest {
+
+    private final Movie movie = movie("영화");
+    private final Movie otherMovie = movie("다른 영화");
+
+    private ScreeningCatalog catalog;
+    private Screening morning;
+    private Screening noon;
+    private Screening otherNoon;
+    private Screening nextDay;
+
+    private static Movie movie(String title) {
+        return Movie.builder()
+                .title(title)
+                .fee(Money.wons(10000))
+                .discountAmount(Money.ZERO)
+                .discountPercent(0.0)
+                .discountConditions(List.of())
+                .movieType(MovieType.NONE_DISCOUNT)
+                .build();
+    }
+
+    private static Screening screening(Movie movie, String auditorium, LocalDateTime whenScreened) {
+        return Screening.builder()
+                .movie(movie)
+                .sequence(1)
+                .auditorium(auditorium)
+                .whenScreened(whenScreened)
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 2023-01-02 은 월요일이다.
+        morning = screening(movie, "1관", LocalDateTime.of(2023, 1, 2, 10, 0));
+        noon = screening(movie, "1관", LocalDateTime.of(2023, 1, 2, 12, 0));
+        otherNoon = screening(otherMovie, "2관", LocalDateTime.of(2023, 1, 2, 12, 0));
+        nextDay = screening(movie, "1관", LocalDateTime.of(2023, 1, 3, 10, 0));
+        catalog = new ScreeningCatalog();
+        catalog.addAll(List.of(morning, noon, otherNoon, nextDay));
+    }
+
+    @DisplayName("구간 양 끝을 포함해 상영 시각 순으로 상영을 찾는다")
+    @Test
+    void findBetween() {
+        // when
+        List<Screening> found = catalog.findBetween(LocalDateTime.of(2023, 1, 2, 10, 0), LocalDateTime.of(2023, 1, 2, 12, 0));
+
+        // then
+        Assertions.assertEquals(3, found.size());
+        Assertions.assertSame(morning, found.get(0));
+        Assertions.assertTrue(found.containsAll(List.of(noon, otherNoon)));
+        Assertions.assertEquals(0, catalog.findBetween(LocalDateTime.of(2023, 1, 2, 13, 0), LocalDateTime.of(2023, 1, 2, 23, 0)).size());
+    }
+
+    @DisplayName("영화별로 구간 안의 상영만 찾는다")
+    @Test
+    void findByMovie() {
+        // when
+        List<Screening> found = catalog.findByMovie(movie, LocalDateTime.of(2023, 1, 2, 0, 0), LocalDateTime.of(2023, 1, 2, 23, 59));
+
+        // then
+        Assertions.assertEquals(List.of(morning, noon), found);
+        Assertions.assertEquals(List.of(otherNoon), catalog.findByMovie(otherMovie, LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2023, 1, 31, 0, 0)));
+        Assertions.assertEquals(0, catalog.findByMovie(movie("없는 영화"), LocalDateTime.MIN, LocalDateTime.MAX).size());
+    }
+
+    @DisplayName("요일과 시각 구간으로 상영을 찾는다")
+    @Test
+    void findByDayOfWeek() {
+        // when
+        List<Screening> monday = catalog.findByDayOfWeek(DayOfWeek.MONDAY, LocalTime.of(11, 0), LocalTime.of(12, 0));
+        List<Screening> tuesday = catalog.findByDayOfWeek(DayOfWeek.TUESDAY, LocalTime.of(0, 0), LocalTime.of(23, 59));
+
+        // then
+        Assertions.assertEquals(2, monday.size());
+        Assertions.assertTrue(monday.containsAll(List.of(noon, otherNoon)));
+        Assertions.assertEquals(List.of(nextDay), tuesday);
+    }
+
+    @DisplayName("상영을 제거하면 모든 색인에서 빠지고, 없는 상영의 제거는 false 를 돌려준다")
+    @Test
+    void remove() {
+        // when
+        boolean removed = catalog.remove(noon);
+        boolean removedAgain = catalog.remove(noon);
+
+        // then
+        Assertions.assertTrue(removed);
+        Assertions.assertFalse(removedAgain);
+        Assertions.assertEquals(3, catalog.size());
+        Assertions.assertEquals(List.of(otherNoon), catalog.findBetween(LocalDateTime.of(2023, 1, 2, 12, 0), LocalDateTime.of(2023, 1, 2, 12, 0)));
+        Assertions.assertEquals(List.of(morning), catalog.findByMovie(movie, LocalDateTime.of(2023, 1, 2, 0, 0), LocalDateTime.of(2023, 1, 2, 23, 59)));
+        Assertions.assertEquals(List.of(otherNoon), catalog.findByDayOfWeek(DayOfWeek.MONDAY, LocalTime.of(12, 0), LocalTime.of(12, 0)));
+    }
+
+    @DisplayName("새로 추가한 상영은 바로 조회된다")
+    @Test
+    void add() {
+        // given
+        Screening evening = screening(otherMovie, "1관", LocalDateTime.of(2023, 1, 2, 19, 0));
+
+        // when
+        catalog.add(evening);
+
+        // then
+        Assertions.assertEquals(5, catalog.size());
+        Assertions.assertEquals(List.of(otherNoon, evening), catalog.findByMovie(otherMovie, LocalDateTime.of(2023, 1, 2, 0, 0), LocalDateTime.of(2023, 1, 2, 23, 59)));
+        Assertions.assertEquals(List.of(evening), catalog.findByDayOfWeek(DayOfWeek.MONDAY, LocalTime.of(18, 0), LocalTime.of(20, 0)));
+    }
+
+    @DisplayName("같은 id 의 상영은 등록하지 않고 기존 색인을 그대로 둔다")
+    @Test
+    void rejectDuplicateId() {
+        // given
+        Screening registered = Screening.builder()
+                .id(100L)
+                .movie(movie)
+                .auditorium("3관")
+                .whenScreened(LocalDateTime.of(2023, 1, 5, 10, 0))
+                .build();
+        Screening duplicate = Screening.builder()
+                .id(100L)
+                .movie(otherMovie)
+                .auditorium("3관")
+                .whenScreened(LocalDateTime.of(2023, 1, 5, 13, 0))
+                .build();
+        catalog.add(registered);
+
+        // when, then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> catalog.add(duplicate));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> catalog.add(morning));
+        Assertions.assertEquals(5, catalog.size());
+        Assertions.assertSame(registered, catalog.findById(100L).orElseThrow());
+        Assertions.assertEquals(List.of(), catalog.findByMovie(otherMovie, LocalDateTime.of(2023, 1, 5, 0, 0), LocalDateTime.of(2023, 1, 5, 23, 59)));
+    }
+}
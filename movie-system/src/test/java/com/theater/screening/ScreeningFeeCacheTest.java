@@ -0,0 +1,114 @@
+package com.theater.screening;
+
+import com.theater.money.Money;
+import com.theater.movie.FeeCacheStats;
+import com.theater.movie.Movie;
+import com.theater.movie.MovieType;
+import com.theater.movie.discount.SequenceCondition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+class ScreeningFeeCacheTest {
+
+    private Movie movie() {
+        return Movie.builder()
+                .title("영화")
+                .fee(Money.wons(10000))
+                .discountAmount(Money.wons(1000))
+                .discountPercent(0.0)
+                .discountConditions(List.of(SequenceCondition.builder()
+                        .sequence(1)
+                        .build()))
+                .movieType(MovieType.AMOUNT_DISCOUNT)
+                .build();
+    }
+
+    private Screening screening(Movie movie) {
+        return Screening.builder()
+                .movie(movie)
+                .sequence(1)
+                .whenScreened(LocalDateTime.of(2023, 1, 1, 10, 0))
+                .build();
+    }
+
+    @DisplayName("영화 요금 설정이 바뀌지 않으면 캐시된 요금을 재사용한다")
+    @Test
+    void hitWhileUnchanged() {
+        // given
+        Movie movie = movie();
+        Screening screening = screening(movie);
+
+        // when
+        screening.calculateMovieFee();
+        screening.calculateMovieFee();
+        Money fee = screening.calculateMovieFee();
+
+        // then
+        FeeCacheStats stats = movie.getFeeCacheStats();
+        Assertions.assertEquals(1, stats.getMisses());
+        Assertions.assertEquals(2, stats.getHits());
+        Assertions.assertEquals(9000, fee.getAmount().intValue());
+    }
+
+    @DisplayName("영화 요금 설정이 바뀌면 캐시를 버리고 새 요금을 계산한다")
+    @Test
+    void invalidateOnMovieChange() {
+        // given
+        Movie movie = movie();
+        Screening screening = screening(movie);
+        screening.calculateMovieFee();
+
+        // when
+        movie.setFee(Money.wons(20000));
+        Money changedFee = screening.calculateMovieFee();
+        movie.setDiscountAmount(Money.wons(5000));
+        Money discountedFee = screening.calculateMovieFee();
+
+        // then
+        FeeCacheStats stats = movie.getFeeCacheStats();
+        Assertions.assertEquals(3, stats.getMisses());
+        Assertions.assertEquals(0, stats.getHits());
+        Assertions.assertEquals(19000, changedFee.getAmount().intValue());
+        Assertions.assertEquals(15000, discountedFee.getAmount().intValue());
+    }
+
+    @DisplayName("상영 순번이 바뀌면 캐시를 버리고 할인 조건을 다시 판단한다")
+    @Test
+    void invalidateOnSequenceChange() {
+        // given
+        Movie movie = movie();
+        Screening screening = screening(movie);
+        screening.calculateMovieFee();
+
+        // when
+        screening.setSequence(2);
+        Money fee = screening.calculateMovieFee();
+
+        // then
+        Assertions.assertEquals(2, movie.getFeeCacheStats().getMisses());
+        Assertions.assertEquals(10000, fee.getAmount().intValue());
+    }
+
+    @DisplayName("상영 시각이 없는 상영도 캐시된 요금을 재사용한다")
+    @Test
+    void hitWithoutScreeningTime() {
+        // given
+        Movie movie = movie();
+        Screening screening = Screening.builder()
+                .movie(movie)
+                .sequence(1)
+                .build();
+        screening.calculateMovieFee();
+
+        // when
+        Money fee = screening.calculateMovieFee();
+
+        // then
+        Assertions.assertEquals(1, movie.getFeeCacheStats().getHits());
+        Assertions.assertEquals(9000, fee.getAmount().intValue());
+    }
+}
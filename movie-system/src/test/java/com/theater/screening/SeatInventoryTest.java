@@ -0,0 +1,57 @@
+package com.theater.screening;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeatInventoryTest {
+
+    @DisplayName("정원을 넘는 선점은 거절하고 재고는 그대로 둔다")
+    @Test
+    void rejectOverCapacity() {
+        // given
+        SeatInventory seatInventory = SeatInventory.of(3);
+
+        // when
+        boolean first = seatInventory.tryHold(2);
+        boolean second = seatInventory.tryHold(2);
+
+        // then
+        Assertions.assertTrue(first);
+        Assertions.assertFalse(second);
+        Assertions.assertEquals(1, seatInventory.getRemaining());
+    }
+
+    @DisplayName("0 석 선점과 반환은 재고를 건드리지 않고 성공한다")
+    @Test
+    void zeroSeats() {
+        // given
+        SeatInventory seatInventory = SeatInventory.of(0);
+
+        // when
+        boolean held = seatInventory.tryHold(0);
+        seatInventory.release(0);
+
+        // then
+        Assertions.assertTrue(held);
+        Assertions.assertEquals(0, seatInventory.getReserved());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> seatInventory.tryHold(-1));
+    }
+
+    @DisplayName("무제한 재고는 예약 좌석 수가 int 범위를 넘어도 선점을 거절하지 않는다")
+    @Test
+    void unlimitedNeverRunsOut() {
+        // given
+        SeatInventory seatInventory = SeatInventory.unlimited();
+        Assertions.assertTrue(seatInventory.tryHold(Integer.MAX_VALUE));
+
+        // when
+        boolean held = seatInventory.tryHold(Integer.MAX_VALUE);
+        seatInventory.release(1);
+
+        // then
+        Assertions.assertTrue(held);
+        Assertions.assertEquals(2L * Integer.MAX_VALUE - 1, seatInventory.getReserved());
+        Assertions.assertEquals(Long.MAX_VALUE, seatInventory.getRemaining());
+    }
+}